@@ -0,0 +1,19 @@
+package university.benchmark;
+
+import university.dao.MigrationRunner;
+import university.dao.ScriptExecutor;
+import university.io.FileReader;
+
+final class BenchmarkSchema {
+
+    private static final String DROP_SCRIPT_FILE = "dropschema.sql";
+
+    private BenchmarkSchema() {
+    }
+
+    // benchmarks run on the schema the application migrates to, not on a copy of it
+    static void recreate(ScriptExecutor executor, FileReader reader) {
+        executor.executeScript(DROP_SCRIPT_FILE);
+        new MigrationRunner(executor, reader).migrate();
+    }
+}
@@ -0,0 +1,73 @@
+package university.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import university.dao.BulkLoader;
+import university.dao.ConnectorH2;
+import university.dao.DBInitialiser;
+import university.dao.ScriptExecutor;
+import university.dao.impl.ConnectorPool;
+import university.dao.impl.CopyBulkLoader;
+import university.dao.impl.CourseDaoImpl;
+import university.dao.impl.GroupDaoImpl;
+import university.dao.impl.StudentDaoImpl;
+import university.domain.DataGenerator;
+import university.io.FileReader;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DBInitialiserBenchmark {
+
+    private static final String PROPERTIES_FILE = "benchmark";
+    private static final long SEED = 42;
+
+    @Param({ "dao", "bulk" })
+    private String mode;
+
+    private ConnectorPool connector;
+    private FileReader reader;
+    private ScriptExecutor executor;
+    private DBInitialiser initialiser;
+
+    @Setup(Level.Trial)
+    public void init() {
+        connector = new ConnectorPool(new ConnectorH2(PROPERTIES_FILE), PROPERTIES_FILE);
+        reader = new FileReader();
+        executor = new ScriptExecutor(connector, reader);
+        BulkLoader bulkLoader = "bulk".equals(mode) ? new CopyBulkLoader(connector) : null;
+        initialiser = new DBInitialiser(reader, new DataGenerator(new Random(SEED)), executor,
+                new StudentDaoImpl(connector), new CourseDaoImpl(connector), new GroupDaoImpl(connector), bulkLoader);
+    }
+
+    @Setup(Level.Iteration)
+    public void recreateTables() {
+        BenchmarkSchema.recreate(executor, reader);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        connector.close();
+    }
+
+    @Benchmark
+    public void initDB() {
+        initialiser.initDB();
+    }
+}
@@ -0,0 +1,146 @@
+package university.benchmark;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import university.dao.BulkLoader;
+import university.dao.ConnectorH2;
+import university.dao.CourseDao;
+import university.dao.GroupDao;
+import university.dao.ScriptExecutor;
+import university.dao.StudentDao;
+import university.dao.impl.ConnectorPool;
+import university.dao.impl.CopyBulkLoader;
+import university.dao.impl.CourseDaoImpl;
+import university.dao.impl.GroupDaoImpl;
+import university.dao.impl.StudentDaoImpl;
+import university.domain.DataGenerator;
+import university.entity.Course;
+import university.entity.Group;
+import university.entity.Student;
+import university.io.FileReader;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DaoBenchmark {
+
+    private static final String PROPERTIES_FILE = "benchmark";
+    private static final String BENCHMARK_COURSE = "Benchmark";
+    private static final long SEED = 42;
+    private static final int STUDENTS_PER_GROUP = 15;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({ "1000", "100000", "1000000" })
+    private int numberStudents;
+
+    private ConnectorPool connector;
+    private StudentDao studentDao;
+    private CourseDao courseDao;
+    private GroupDao groupDao;
+    private List<Course> courses;
+    private Random random;
+    private Student newStudent;
+    private List<Integer> benchmarkCourse;
+    private int nextEnrolledStudent;
+
+    @Setup(Level.Trial)
+    public void seed() {
+        connector = new ConnectorPool(new ConnectorH2(PROPERTIES_FILE), PROPERTIES_FILE);
+        FileReader reader = new FileReader();
+        BenchmarkSchema.recreate(new ScriptExecutor(connector, reader), reader);
+        DataGenerator generator = new DataGenerator(new Random(SEED));
+        BulkLoader bulkLoader = new CopyBulkLoader(connector);
+        int numberGroups = Math.max(1, numberStudents / STUDENTS_PER_GROUP);
+        List<Group> groups = generator.generateGroups(numberGroups);
+        List<Course> generatedCourses = generator.generateCourses(reader.read("courses.txt"));
+        bulkLoader.load("groups", Arrays.asList("group_name"), groups.stream()
+                .map(group -> new Object[] { group.getName() }));
+        bulkLoader.load("students", Arrays.asList("group_id", "first_name", "last_name"), generator
+                .streamStudents(SEED, numberStudents, numberGroups, reader.read("firstNames.txt"),
+                        reader.read("lastNames.txt"))
+                .map(student -> new Object[] { student.getGroupId(), student.getFirstName(), student.getLastName() }));
+        bulkLoader.load("courses", Arrays.asList("course_name", "course_description"), generatedCourses.stream()
+                .map(course -> new Object[] { course.getName(), course.getDescription() }));
+        bulkLoader.load("students_to_courses", Arrays.asList("student_id", "course_id"),
+                generator.streamEnrolments(SEED, numberStudents, generatedCourses.size())
+                        .map(enrolment -> new Object[] { enrolment[0], enrolment[1] }));
+        studentDao = new StudentDaoImpl(connector);
+        courseDao = new CourseDaoImpl(connector);
+        groupDao = new GroupDaoImpl(connector);
+        courses = courseDao.findAll();
+        courseDao.save(Course.builder().withName(BENCHMARK_COURSE).withDescription(BENCHMARK_COURSE).build());
+        benchmarkCourse = Collections.singletonList(courseDao.findByName(BENCHMARK_COURSE).get().getCourseId());
+        newStudent = Student.builder().withGroupId(1).withFirstName("Bench").withLastName("Mark").build();
+        random = new Random(SEED);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearBenchmarkCourse() {
+        studentDao.removeAllFromCourse(benchmarkCourse.get(0));
+        nextEnrolledStudent = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        connector.close();
+    }
+
+    @Benchmark
+    public Object findById() {
+        return studentDao.findById(random.nextInt(numberStudents) + 1);
+    }
+
+    @Benchmark
+    public Object findAll() {
+        return studentDao.findAll();
+    }
+
+    @Benchmark
+    public Object findAllPaginated() {
+        return studentDao.findAll(PAGE_SIZE, random.nextInt(numberStudents));
+    }
+
+    @Benchmark
+    public Object findAllByCourse() {
+        return studentDao.findAllByCourse(courses.get(random.nextInt(courses.size())).getName());
+    }
+
+    @Benchmark
+    public Object findAllBySizeEqualsOrLess() {
+        return groupDao.findAllBySizeEqualsOrLess(STUDENTS_PER_GROUP);
+    }
+
+    @Benchmark
+    public void save() {
+        studentDao.save(newStudent);
+    }
+
+    @Benchmark
+    public void insertStudentToCourses() {
+        if (nextEnrolledStudent == numberStudents) {
+            clearBenchmarkCourse();
+        }
+        nextEnrolledStudent++;
+        Student student = Student.builder().withId(nextEnrolledStudent).build();
+        studentDao.insertStudentToCourses(student, benchmarkCourse);
+    }
+}
@@ -0,0 +1 @@
+DROP ALL OBJECTS;
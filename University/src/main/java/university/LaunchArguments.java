@@ -0,0 +1,95 @@
+package university;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class LaunchArguments {
+
+    static final String USAGE = "Usage: UniversityLauncher [--batch[=<script>]] "
+            + "[<number of students> <number of groups> [<seed>]]";
+    private static final String BATCH_OPTION = "--batch";
+    private static final String OPTION_PREFIX = "--";
+
+    private final String batchScript;
+    private final Integer numberStudents;
+    private final Integer numberGroups;
+    private final Long seed;
+
+    private LaunchArguments(String batchScript, Integer numberStudents, Integer numberGroups, Long seed) {
+        this.batchScript = batchScript;
+        this.numberStudents = numberStudents;
+        this.numberGroups = numberGroups;
+        this.seed = seed;
+    }
+
+    static LaunchArguments parse(String... args) {
+        String batchScript = null;
+        List<String> positional = new ArrayList<>();
+        for (String argument : args) {
+            if (BATCH_OPTION.equals(argument)) {
+                batchScript = "";
+            } else if (argument.startsWith(BATCH_OPTION + "=")) {
+                batchScript = argument.substring(BATCH_OPTION.length() + 1);
+            } else if (argument.startsWith(OPTION_PREFIX)) {
+                throw new IllegalArgumentException("Unknown option " + argument);
+            } else {
+                positional.add(argument);
+            }
+        }
+        if (positional.size() == 1 || positional.size() > 3) {
+            throw new IllegalArgumentException("Expected number of students and number of groups, "
+                    + "optionally followed by a seed, but got " + positional);
+        }
+        if (positional.isEmpty()) {
+            return new LaunchArguments(batchScript, null, null, null);
+        }
+        return new LaunchArguments(batchScript, parseCount(positional.get(0), "number of students"),
+                parseCount(positional.get(1), "number of groups"),
+                positional.size() == 3 ? parseSeed(positional.get(2)) : null);
+    }
+
+    String getBatchScript() {
+        return batchScript;
+    }
+
+    boolean hasScale() {
+        return numberStudents != null;
+    }
+
+    int getNumberStudents() {
+        return numberStudents;
+    }
+
+    int getNumberGroups() {
+        return numberGroups;
+    }
+
+    boolean hasSeed() {
+        return seed != null;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    private static int parseCount(String value, String name) {
+        int count;
+        try {
+            count = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The " + name + " must be a whole number, but got " + value, e);
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("The " + name + " can't be negative, but got " + value);
+        }
+        return count;
+    }
+
+    private static long parseSeed(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The seed must be a whole number, but got " + value, e);
+        }
+    }
+}
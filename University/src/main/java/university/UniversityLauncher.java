@@ -1,40 +1,126 @@
 package university;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.Random;
 import org.postgresql.ds.PGSimpleDataSource;
+import university.dao.BulkLoader;
 import university.dao.Connector;
 import university.dao.CourseDao;
 import university.dao.DBInitialiser;
 import university.dao.GroupDao;
 import university.dao.ScriptExecutor;
 import university.dao.StudentDao;
+import university.dao.TransactionManager;
+import university.dao.async.DaoExecutor;
+import university.dao.cache.CachingCourseDao;
+import university.dao.cache.CachingGroupDao;
+import university.dao.cache.EntityCache;
+import university.dao.impl.ConnectorPool;
+import university.dao.impl.CopyBulkLoader;
 import university.dao.impl.ConnectorPostgres;
 import university.dao.impl.CourseDaoImpl;
 import university.dao.impl.GroupDaoImpl;
 import university.dao.impl.StudentDaoImpl;
+import university.dao.metrics.DaoMetrics;
+import university.dao.metrics.InstrumentedConnector;
 import university.domain.Controller;
 import university.domain.DataGenerator;
+import university.domain.UniversityService;
+import university.http.UniversityHttpServer;
 import university.io.FileReader;
 import university.io.ViewProvider;
 
 public class UniversityLauncher {
 
     private static final String PROPERTIES_FILE = "postgresdatabase";
+    private static final int USAGE_EXIT_STATUS = 2;
 
     public static void main(String[] args) {
+        LaunchArguments arguments;
+        try {
+            arguments = LaunchArguments.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LaunchArguments.USAGE);
+            System.exit(USAGE_EXIT_STATUS);
+            return;
+        }
         PGSimpleDataSource dataSource = new PGSimpleDataSource();
         Connector connector = new ConnectorPostgres(PROPERTIES_FILE, dataSource);
+        int maxConcurrency = 1;
+        if (ConnectorPool.isEnabled(PROPERTIES_FILE)) {
+            ConnectorPool pool = new ConnectorPool(connector, PROPERTIES_FILE);
+            maxConcurrency = pool.getMaxSize();
+            connector = pool;
+        }
+        if (InstrumentedConnector.isEnabled(PROPERTIES_FILE)) {
+            DaoMetrics metrics = new DaoMetrics();
+            metrics.registerMBean();
+            connector = new InstrumentedConnector(connector, metrics, PROPERTIES_FILE);
+        }
+        TransactionManager transactionManager = new TransactionManager(connector);
+        connector = transactionManager;
         FileReader reader = new FileReader();
         ScriptExecutor executor = new ScriptExecutor(connector, reader);
         Random random = new Random();
-        DataGenerator generator = new DataGenerator(random);
+        DataGenerator generator = new DataGenerator(random, true);
         StudentDao studentDao = new StudentDaoImpl(connector);
         CourseDao courseDao = new CourseDaoImpl(connector);
         GroupDao groupDao = new GroupDaoImpl(connector);
-        DBInitialiser initialiser = new DBInitialiser(reader, generator, executor, studentDao, courseDao, groupDao);
+        if (EntityCache.isEnabled(PROPERTIES_FILE)) {
+            CachingCourseDao cachingCourseDao = new CachingCourseDao(courseDao, PROPERTIES_FILE);
+            CachingGroupDao cachingGroupDao = new CachingGroupDao(groupDao, PROPERTIES_FILE);
+            transactionManager.addRollbackListener(cachingCourseDao::invalidateAll);
+            transactionManager.addRollbackListener(cachingGroupDao::invalidateAll);
+            courseDao = cachingCourseDao;
+            groupDao = cachingGroupDao;
+        }
+        BulkLoader bulkLoader = new CopyBulkLoader(connector);
+        DBInitialiser initialiser = new DBInitialiser(reader, generator, executor, studentDao, courseDao, groupDao,
+                bulkLoader);
+        if (arguments.hasScale()) {
+            initialiser.setScale(arguments.getNumberGroups(), arguments.getNumberStudents());
+        }
+        if (arguments.hasSeed()) {
+            initialiser.setSeed(arguments.getSeed());
+        }
+        initialiser.setTransactionManager(transactionManager);
         initialiser.initDB();
-        ViewProvider viewProvider = new ViewProvider();
-        Controller controller = new Controller(studentDao, courseDao, groupDao, viewProvider);
-        controller.run();
+        DaoExecutor daoExecutor = new DaoExecutor(maxConcurrency);
+        UniversityService service = new UniversityService(studentDao, courseDao, groupDao, transactionManager,
+                daoExecutor);
+        if (UniversityHttpServer.isEnabled(PROPERTIES_FILE)) {
+            UniversityHttpServer server = new UniversityHttpServer(service, PROPERTIES_FILE);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.close();
+                daoExecutor.close();
+            }));
+            server.start();
+            return;
+        }
+        try {
+            runConsole(service, arguments.getBatchScript());
+        } finally {
+            daoExecutor.close();
+        }
+    }
+
+    private static void runConsole(UniversityService service, String batchScript) {
+        if (batchScript == null) {
+            new Controller(service, new ViewProvider()).run();
+            return;
+        }
+        try (Reader input = batchScript.isEmpty() ? new InputStreamReader(System.in)
+                : Files.newBufferedReader(Paths.get(batchScript))) {
+            new Controller(service, new ViewProvider(input, new OutputStreamWriter(System.out))).run();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read batch script " + batchScript, e);
+        }
     }
 }
@@ -0,0 +1,9 @@
+package university.dao;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface BulkLoader {
+
+    LoadReport load(String table, List<String> columns, Stream<Object[]> rows);
+}
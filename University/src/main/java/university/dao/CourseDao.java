@@ -1,12 +1,19 @@
 package university.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import university.entity.Course;
+import university.entity.EntitySummary;
 
-public interface CourseDao extends CrudDao<Course, Integer> {
+public interface CourseDao extends CrudDao<Course, Integer>, NaturalKeyDao<Course> {
     
     Optional<Course> findByName(String courseName);
     
     List<Course> findAllByStudentId(Integer studentId);
+    
+    Map<Integer, List<Course>> findAllByStudentIds(Collection<Integer> studentIds);
+
+    List<EntitySummary> findAllSummaries();
 }
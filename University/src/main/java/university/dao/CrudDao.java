@@ -1,17 +1,29 @@
 package university.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CrudDao <E, ID> {
     
     void save(E entity);
     
+    List<E> saveAll(Collection<E> entities);
+    
     Optional<E> findById(ID id);
+
+    List<E> findAllById(Collection<ID> ids);
     
     List<E> findAll();
     
+    Stream<E> streamAll();
+    
     List<E> findAll(int limit, int offset);
     
-    void deleteById(ID id);       
+    List<E> findAllAfter(ID lastId, int limit);
+    
+    void deleteById(ID id);
+
+    void deleteAllById(Collection<ID> ids);
 }
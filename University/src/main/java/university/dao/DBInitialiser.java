@@ -1,7 +1,15 @@
 package university.dao;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import university.domain.DataGenerator;
 import university.entity.Course;
 import university.entity.Group;
@@ -10,70 +18,191 @@ import university.io.FileReader;
 
 public class DBInitialiser {
 
+    private static final Logger LOGGER = Logger.getLogger(DBInitialiser.class.getName());
     private static final int NUMBER_GROUPS = 10;
     private static final int NUMBER_STUDENTS = 200;
-    private static final String SQL_SCRIPT_FILE = "schema.sql";
     private static final String FIRST_NAMES_FILE = "firstNames.txt";
     private static final String LAST_NAMES_FILE = "lastNames.txt";
     private static final String COURSES_FILE = "courses.txt";
+    private static final List<String> STUDENT_COLUMNS = Arrays.asList("group_id", "first_name", "last_name");
+    private static final List<String> ENROLMENT_COLUMNS = Arrays.asList("student_id", "course_id");
 
     private final FileReader reader;
     private final DataGenerator generator;
     private final ScriptExecutor executor;
+    private final MigrationRunner migrationRunner;
     private final StudentDao studentDao;
     private final CourseDao courseDao;
     private final GroupDao groupDao;
+    private final BulkLoader bulkLoader;
+    private TransactionManager transactionManager;
+    private int numberGroups = NUMBER_GROUPS;
+    private int numberStudents = NUMBER_STUDENTS;
+    private long seed = ThreadLocalRandom.current().nextLong();
 
     public DBInitialiser(FileReader reader, DataGenerator generator, ScriptExecutor executor, StudentDao studentDao,
             CourseDao courseDao, GroupDao groupDao) {
+        this(reader, generator, executor, studentDao, courseDao, groupDao, null);
+    }
+
+    public DBInitialiser(FileReader reader, DataGenerator generator, ScriptExecutor executor, StudentDao studentDao,
+            CourseDao courseDao, GroupDao groupDao, BulkLoader bulkLoader) {
         this.reader = reader;
         this.generator = generator;
         this.executor = executor;
+        this.migrationRunner = new MigrationRunner(executor, reader);
         this.studentDao = studentDao;
         this.courseDao = courseDao;
         this.groupDao = groupDao;
+        this.bulkLoader = bulkLoader;
+    }
+
+    public void setScale(int numberGroups, int numberStudents) {
+        if (numberGroups < 0 || numberStudents < 0) {
+            throw new IllegalArgumentException("Number of groups and students can't be negative!");
+        }
+        this.numberGroups = numberGroups;
+        this.numberStudents = numberStudents;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public void setTransactionManager(TransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
     }
 
     public void initDB() {
-        executor.executeScript(SQL_SCRIPT_FILE);
-        generateEntities();
-        saveStudentsToCourses();
+        migrationRunner.migrate();
+        if (transactionManager == null) {
+            seed();
+        } else {
+            transactionManager.inTransaction(this::seed);
+        }
     }
 
-    private void generateEntities() {
+    private void seed() {
+        if (executor.isSeedingCompleted()) {
+            LOGGER.info("Database has already been seeded, seeding skipped");
+            return;
+        }
+        // students have no natural key to resume from, so an unfinished run is cleared and seeded again
+        if (containsData(studentDao)) {
+            LOGGER.warning("Database contains students from an unfinished seeding run, seeding them again");
+            executor.deleteUnfinishedSeeding();
+        }
         List<String> contentFirstNames = reader.read(FIRST_NAMES_FILE);
         List<String> contentLastNames = reader.read(LAST_NAMES_FILE);
         List<String> contentCourses = reader.read(COURSES_FILE);
-        List<Group> groups = generator.generateGroups(NUMBER_GROUPS);
+        List<Group> groups = generator.generateGroups(numberGroups);
         List<Course> courses = generator.generateCourses(contentCourses);
-        List<Student> students = generator.generateStudents(NUMBER_STUDENTS, NUMBER_GROUPS, contentFirstNames, contentLastNames);
-        saveAll(groups, groupDao);
-        saveAll(students, studentDao);
-        saveAll(courses, courseDao);
+        if (bulkLoader == null) {
+            saveEntities(groups, generator.generateStudents(seed, numberStudents, numberGroups, contentFirstNames,
+                    contentLastNames), courses);
+        } else {
+            loadEntities(groups, generator.streamStudents(seed, numberStudents, numberGroups, contentFirstNames,
+                    contentLastNames), courses);
+        }
+        executor.recordSeedingCompleted(seed);
+    }
+
+    private <T> boolean containsData(CrudDao<T, Integer> entityDao) {
+        if (entityDao == null) {
+            throw new IllegalArgumentException("Input dao instance can't be null!");
+        }
+        return !entityDao.findAll(1, 0).isEmpty();
+    }
+
+    private void saveEntities(List<Group> groups, List<Student> students, List<Course> courses) {
+        List<Integer> groupIds = ids(upsertAll(groups, groupDao), Group::getGroupId);
+        students = saveAll(assignGroups(students, groupIds), studentDao);
+        courses = upsertAll(courses, courseDao);
+        saveStudentsToCourses(students, courses);
     }
 
-    private void saveStudentsToCourses() {
-        List<Course> courses = courseDao.findAll();
-        List<Student> students = studentDao.findAll();
+    private void loadEntities(List<Group> groups, Stream<Student> students, List<Course> courses) {
+        List<Integer> groupIds = ids(upsertAll(groups, groupDao), Group::getGroupId);
+        List<Integer> courseIds = ids(upsertAll(courses, courseDao), Course::getCourseId);
+        load("students", STUDENT_COLUMNS, students
+                .map(student -> new Object[] { groupId(student.getGroupId(), groupIds), student.getFirstName(),
+                        student.getLastName() }));
+        int[] studentIds = loadedStudentIds();
+        load("students_to_courses", ENROLMENT_COLUMNS, generator.streamEnrolments(seed, numberStudents,
+                courseIds.size())
+                .map(enrolment -> new Object[] { studentIds[enrolment[0] - 1], courseIds.get(enrolment[1] - 1) }));
+    }
+
+    private List<Student> assignGroups(List<Student> students, List<Integer> groupIds) {
+        if (students == null) {
+            throw new IllegalArgumentException("Input list of entities can't be null!");
+        }
+        return students.stream()
+                .map(student -> Student.builder()
+                        .withId(student.getStudentId())
+                        .withGroupId(groupId(student.getGroupId(), groupIds))
+                        .withFirstName(student.getFirstName())
+                        .withLastName(student.getLastName())
+                        .withCourses(student.getCourses())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // the generator numbers groups by position, the database may have given them any identifiers
+    private Integer groupId(Integer ordinal, List<Integer> groupIds) {
+        return ordinal == null ? null : groupIds.get(ordinal - 1);
+    }
+
+    // the students table was empty before loading, so ordering by id restores the generation order
+    private int[] loadedStudentIds() {
+        try (Stream<Student> loaded = studentDao.streamAll()) {
+            int[] studentIds = loaded.mapToInt(Student::getStudentId).toArray();
+            if (studentIds.length != numberStudents) {
+                throw new IllegalStateException("Loaded " + studentIds.length + " students instead of "
+                        + numberStudents);
+            }
+            return studentIds;
+        }
+    }
+
+    private <T> List<Integer> ids(List<T> entities, Function<T, Integer> idGetter) {
+        return entities.stream().map(idGetter).collect(Collectors.toList());
+    }
+
+    private void load(String table, List<String> columns, Stream<Object[]> rows) {
+        LoadReport report = bulkLoader.load(table, columns, rows);
+        LOGGER.info(() -> String.valueOf(report));
+    }
+
+    private void saveStudentsToCourses(List<Student> students, List<Course> courses) {
         students = generator.generateStudentCourses(students, courses);
+        Map<Integer, List<Integer>> coursesIdByStudentId = new LinkedHashMap<>();
         for (Student student : students) {
             List<Integer> coursesId = new ArrayList<>();
             for (Course course : student.getCourses()) {
                 coursesId.add(course.getCourseId());
             }
-            studentDao.insertStudentToCourses(student, coursesId);
+            coursesIdByStudentId.put(student.getStudentId(), coursesId);
         }
+        studentDao.insertEnrolments(coursesIdByStudentId);
     }
 
-    private <T> void saveAll(List<T> entities, CrudDao<T, Integer> entityDao) {
+    private <T> List<T> saveAll(List<T> entities, CrudDao<T, Integer> entityDao) {
+        checkArguments(entities, entityDao);
+        return entityDao.saveAll(entities);
+    }
+
+    private <T> List<T> upsertAll(List<T> entities, NaturalKeyDao<T> entityDao) {
+        checkArguments(entities, entityDao);
+        return entityDao.upsertAll(entities);
+    }
+
+    private <T> void checkArguments(List<T> entities, Object entityDao) {
         if (entities == null) {
             throw new IllegalArgumentException("Input list of entities can't be null!");
         }
         if (entityDao == null) {
             throw new IllegalArgumentException("Input dao instance can't be null!");
         }
-        for (T entity : entities) {
-            entityDao.save(entity);
-        }
     }
 }
@@ -1,9 +1,12 @@
 package university.dao;
 
 import java.util.List;
+import java.util.Map;
 import university.entity.Group;
 
-public interface GroupDao extends CrudDao<Group, Integer> {
+public interface GroupDao extends CrudDao<Group, Integer>, NaturalKeyDao<Group> {
     
     List<Group> findAllBySizeEqualsOrLess(Integer groupSize);
+    
+    Map<Group, Integer> countStudentsBySizeEqualsOrLess(Integer groupSize);
 }
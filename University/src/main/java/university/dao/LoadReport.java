@@ -0,0 +1,36 @@
+package university.dao;
+
+public class LoadReport {
+
+    private final String table;
+    private final long rows;
+    private final long elapsedMillis;
+
+    public LoadReport(String table, long rows, long elapsedMillis) {
+        this.table = table;
+        this.rows = rows;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? rows * 1000.0 : rows * 1000.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Loaded %d rows into %s in %d ms (%.0f rows/s)", rows, table, elapsedMillis,
+                getRowsPerSecond());
+    }
+}
@@ -0,0 +1,59 @@
+package university.dao;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import university.io.FileReader;
+
+public class MigrationRunner {
+
+    private static final Logger LOGGER = Logger.getLogger(MigrationRunner.class.getName());
+    private static final String MIGRATION_DIRECTORY = "migration/";
+    private static final String INDEX_FILE = MIGRATION_DIRECTORY + "migrations.txt";
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__\\w+\\.sql");
+
+    private final ScriptExecutor executor;
+    private final FileReader reader;
+
+    public MigrationRunner(ScriptExecutor executor, FileReader reader) {
+        this.executor = executor;
+        this.reader = reader;
+    }
+
+    public int migrate() {
+        Map<Integer, String> scripts = readScripts();
+        Set<Integer> appliedVersions = executor.findAppliedVersions();
+        int applied = 0;
+        for (Map.Entry<Integer, String> script : scripts.entrySet()) {
+            if (!appliedVersions.contains(script.getKey())
+                    && executor.executeMigration(script.getKey(), script.getValue())) {
+                applied++;
+                LOGGER.info(() -> "Applied migration " + script.getValue());
+            }
+        }
+        return applied;
+    }
+
+    private Map<Integer, String> readScripts() {
+        Map<Integer, String> scripts = new TreeMap<>();
+        for (String line : reader.read(INDEX_FILE)) {
+            String scriptName = line.trim();
+            if (scriptName.isEmpty()) {
+                continue;
+            }
+            Matcher matcher = SCRIPT_NAME.matcher(scriptName);
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Migration script name \"" + scriptName
+                        + "\" doesn't match V<version>__<description>.sql");
+            }
+            String previous = scripts.put(Integer.parseInt(matcher.group(1)), MIGRATION_DIRECTORY + scriptName);
+            if (previous != null) {
+                throw new IllegalStateException("Duplicate migration version in " + scriptName + " and " + previous);
+            }
+        }
+        return scripts;
+    }
+}
@@ -0,0 +1,11 @@
+package university.dao;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NaturalKeyDao<E> {
+
+    void upsert(E entity);
+
+    List<E> upsertAll(Collection<E> entities);
+}
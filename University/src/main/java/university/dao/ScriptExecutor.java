@@ -1,14 +1,36 @@
 package university.dao;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 import university.exceptions.DaoException;
 import university.io.FileReader;
 
 public class ScriptExecutor {
 
+    private static final String CREATE_VERSION_TABLE_QUERY = "CREATE TABLE IF NOT EXISTS schema_version("
+            + "version INT PRIMARY KEY, script VARCHAR(255) NOT NULL, "
+            + "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL);";
+    private static final String IS_APPLIED_QUERY = "SELECT COUNT(*) FROM schema_version WHERE version = ?;";
+    private static final String FIND_APPLIED_VERSIONS_QUERY = "SELECT version FROM schema_version;";
+    private static final String SAVE_VERSION_QUERY = "INSERT INTO schema_version (version, script) VALUES(?,?);";
+    private static final String IS_SEEDED_QUERY = "SELECT COUNT(*) FROM seed_state;";
+    private static final String SAVE_SEED_QUERY = "INSERT INTO seed_state (seed) VALUES(?);";
+    private static final String DELETE_UNFINISHED_SEEDING_QUERY = "DELETE FROM students;";
+    private static final int BATCH_SIZE = 100;
+    private static final Pattern RETURNS_ROWS = Pattern.compile("(SELECT|WITH|VALUES|SHOW|EXPLAIN|CALL)\\b",
+            Pattern.CASE_INSENSITIVE);
+
     private final Connector connector;
     private final FileReader reader;
 
@@ -17,19 +39,180 @@ public class ScriptExecutor {
         this.reader = reader;
     }
 
-    public void executeScript(String scriptPath) {        
-        String queryCreateDB = createSqlQuery(reader.read(scriptPath));
+    public void executeScript(String scriptPath) {
+        try (Connection connection = connector.getConnection()) {
+            executeInTransaction(connection, () -> {
+                executeStatements(connection, scriptPath);
+                return null;
+            });
+        } catch (SQLException | IOException | NullPointerException e) {
+            throw new DaoException("Unable to execute schema script", e);
+        }
+    }
+
+    public Set<Integer> findAppliedVersions() {
+        try (Connection connection = connector.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(CREATE_VERSION_TABLE_QUERY)) {
+                statement.execute();
+            }
+            try (PreparedStatement statement = connection.prepareStatement(FIND_APPLIED_VERSIONS_QUERY);
+                    ResultSet resultSet = statement.executeQuery()) {
+                Set<Integer> versions = new HashSet<>();
+                while (resultSet.next()) {
+                    versions.add(resultSet.getInt(1));
+                }
+                return versions;
+            }
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Unable to read applied migrations", e);
+        }
+    }
+
+    public boolean isSeedingCompleted() {
         try (Connection connection = connector.getConnection();
-                PreparedStatement statement = connection.prepareStatement(queryCreateDB)) {
-            statement.execute();
+                PreparedStatement statement = connection.prepareStatement(IS_SEEDED_QUERY);
+                ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() && resultSet.getInt(1) > 0;
         } catch (SQLException | NullPointerException e) {
-            throw new DaoException("Unable to execute schema script", e);
+            throw new DaoException("Unable to read seeding state", e);
+        }
+    }
+
+    public void recordSeedingCompleted(long seed) {
+        try (Connection connection = connector.getConnection();
+                PreparedStatement statement = connection.prepareStatement(SAVE_SEED_QUERY)) {
+            statement.setLong(1, seed);
+            statement.executeUpdate();
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Unable to record seeding with seed " + seed, e);
+        }
+    }
+
+    // groups and courses are upserted by name on the next run, students and their enrolments have to go
+    public void deleteUnfinishedSeeding() {
+        try (Connection connection = connector.getConnection();
+                PreparedStatement statement = connection.prepareStatement(DELETE_UNFINISHED_SEEDING_QUERY)) {
+            statement.executeUpdate();
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Unable to delete rows of unfinished seeding", e);
+        }
+    }
+
+    public boolean executeMigration(int version, String scriptPath) {
+        try (Connection connection = connector.getConnection()) {
+            return executeInTransaction(connection, () -> applyMigration(connection, version, scriptPath));
+        } catch (SQLException | IOException | NullPointerException e) {
+            throw new DaoException("Unable to apply migration " + version + " from " + scriptPath, e);
         }
     }
 
-    private String createSqlQuery(List<String> scriptFileContent) {
-        return scriptFileContent.stream()
-                .collect(StringBuilder::new, StringBuilder::append, StringBuilder::append)
-                .toString();
+    private <T> T executeInTransaction(Connection connection, ScriptWork<T> work) throws SQLException, IOException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            T result = work.execute();
+            if (autoCommit) {
+                connection.commit();
+            }
+            return result;
+        } catch (SQLException | IOException | RuntimeException e) {
+            if (autoCommit) {
+                connection.rollback();
+            }
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private boolean applyMigration(Connection connection, int version, String scriptPath)
+            throws SQLException, IOException {
+        try (PreparedStatement statement = connection.prepareStatement(CREATE_VERSION_TABLE_QUERY)) {
+            statement.execute();
+        }
+        try (PreparedStatement statement = connection.prepareStatement(IS_APPLIED_QUERY)) {
+            statement.setInt(1, version);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next() && resultSet.getInt(1) > 0) {
+                    return false;
+                }
+            }
+        }
+        executeStatements(connection, scriptPath);
+        try (PreparedStatement statement = connection.prepareStatement(SAVE_VERSION_QUERY)) {
+            statement.setInt(1, version);
+            statement.setString(2, scriptPath);
+            statement.executeUpdate();
+        }
+        return true;
+    }
+
+    // statements returning rows can't be batched, so they flush the batch and run on their own
+    private void executeStatements(Connection connection, String scriptPath) throws SQLException, IOException {
+        try (BufferedReader scriptReader = reader.openReader(scriptPath);
+                Statement statement = connection.createStatement()) {
+            SqlScriptParser parser = new SqlScriptParser(scriptReader);
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            int executed = 0;
+            String sql;
+            while ((sql = parser.nextStatement()) != null) {
+                if (RETURNS_ROWS.matcher(sql).lookingAt()) {
+                    executed = executeBatch(statement, batch, executed, scriptPath);
+                    executed++;
+                    try {
+                        statement.execute(sql);
+                    } catch (SQLException e) {
+                        throw statementFailed(scriptPath, executed, sql, e);
+                    }
+                } else {
+                    statement.addBatch(sql);
+                    batch.add(sql);
+                    if (batch.size() == BATCH_SIZE) {
+                        executed = executeBatch(statement, batch, executed, scriptPath);
+                    }
+                }
+            }
+            executeBatch(statement, batch, executed, scriptPath);
+        }
+    }
+
+    private int executeBatch(Statement statement, List<String> batch, int executed, String scriptPath) {
+        if (batch.isEmpty()) {
+            return executed;
+        }
+        try {
+            statement.executeBatch();
+        } catch (SQLException e) {
+            int failed = e instanceof BatchUpdateException
+                    ? findFailedStatement(((BatchUpdateException) e).getUpdateCounts(), batch.size())
+                    : 0;
+            throw statementFailed(scriptPath, executed + failed + 1, batch.get(failed), e);
+        }
+        int total = executed + batch.size();
+        batch.clear();
+        return total;
+    }
+
+    // drivers either stop at the failed statement or go on and mark it as failed
+    private static int findFailedStatement(int[] updateCounts, int batchSize) {
+        if (updateCounts == null) {
+            return 0;
+        }
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                return i;
+            }
+        }
+        return Math.min(updateCounts.length, batchSize - 1);
+    }
+
+    private static DaoException statementFailed(String scriptPath, int number, String sql, SQLException cause) {
+        return new DaoException("Statement " + number + " of " + scriptPath + " failed: " + sql, cause);
+    }
+
+    @FunctionalInterface
+    private interface ScriptWork<T> {
+
+        T execute() throws SQLException, IOException;
     }
 }
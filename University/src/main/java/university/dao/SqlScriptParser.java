@@ -0,0 +1,130 @@
+package university.dao;
+
+import java.io.IOException;
+import java.io.Reader;
+
+class SqlScriptParser {
+
+    private static final int END = -1;
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private int lookahead = NONE;
+
+    SqlScriptParser(Reader reader) {
+        this.reader = reader;
+    }
+
+    String nextStatement() throws IOException {
+        StringBuilder statement = new StringBuilder();
+        int current;
+        while ((current = read()) != END) {
+            if (current == '-' && peek() == '-') {
+                skipLineComment();
+                statement.append('\n');
+            } else if (current == '/' && peek() == '*') {
+                read();
+                skipBlockComment();
+                statement.append(' ');
+            } else if (current == '\'' || current == '"') {
+                copyQuoted(current, statement);
+            } else if (current == '$' && !endsWithIdentifier(statement)) {
+                copyDollarQuoted(statement);
+            } else if (current == ';') {
+                String sql = statement.toString().trim();
+                if (!sql.isEmpty()) {
+                    return sql;
+                }
+                statement.setLength(0);
+            } else {
+                statement.append((char) current);
+            }
+        }
+        String sql = statement.toString().trim();
+        return sql.isEmpty() ? null : sql;
+    }
+
+    private void skipLineComment() throws IOException {
+        int current;
+        do {
+            current = read();
+        } while (current != END && current != '\n');
+    }
+
+    private void skipBlockComment() throws IOException {
+        int previous = NONE;
+        int current;
+        while ((current = read()) != END && !(previous == '*' && current == '/')) {
+            previous = current;
+        }
+    }
+
+    private void copyQuoted(int quote, StringBuilder statement) throws IOException {
+        statement.append((char) quote);
+        int current;
+        while ((current = read()) != END) {
+            statement.append((char) current);
+            if (current == quote) {
+                if (peek() != quote) {
+                    return;
+                }
+                statement.append((char) read());
+            }
+        }
+    }
+
+    private void copyDollarQuoted(StringBuilder statement) throws IOException {
+        StringBuilder tag = new StringBuilder("$");
+        int current;
+        while ((current = read()) != END && isTagPart(current, tag.length() == 1)) {
+            tag.append((char) current);
+        }
+        statement.append(tag);
+        if (current != '$') {
+            unread(current);
+            return;
+        }
+        String delimiter = tag.append('$').toString();
+        statement.append('$');
+        int bodyStart = statement.length();
+        while ((current = read()) != END) {
+            statement.append((char) current);
+            if (current == '$' && statement.length() - bodyStart >= delimiter.length()
+                    && statement.substring(statement.length() - delimiter.length()).equals(delimiter)) {
+                return;
+            }
+        }
+    }
+
+    private boolean isTagPart(int character, boolean first) {
+        return Character.isLetter(character) || character == '_' || !first && Character.isDigit(character);
+    }
+
+    private boolean endsWithIdentifier(StringBuilder statement) {
+        if (statement.length() == 0) {
+            return false;
+        }
+        char last = statement.charAt(statement.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_';
+    }
+
+    private int read() throws IOException {
+        if (lookahead != NONE) {
+            int current = lookahead;
+            lookahead = NONE;
+            return current;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (lookahead == NONE) {
+            lookahead = reader.read();
+        }
+        return lookahead;
+    }
+
+    private void unread(int character) {
+        lookahead = character;
+    }
+}
@@ -1,13 +1,30 @@
 package university.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import university.entity.EntitySummary;
 import university.entity.Student;
 
 public interface StudentDao extends CrudDao<Student, Integer> {
     
     List<Student> findAllByCourse(String courseName);
+
+    Stream<EntitySummary> streamSummaries();
+
+    Optional<Student> findByIdWithCourses(Integer id);
+
+    List<Student> findAllWithCourses(Integer lastId, int limit);
     
     void deleteFromCourse(int studentId, int courseId);
+
+    void deleteFromCourses(int studentId, Collection<Integer> coursesId);
+
+    void removeAllFromCourse(int courseId);
     
     void insertStudentToCourses(Student student, List<Integer> coursesId);
+
+    void insertEnrolments(Map<Integer, ? extends Collection<Integer>> coursesIdByStudentId);
 }
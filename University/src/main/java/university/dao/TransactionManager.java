@@ -0,0 +1,144 @@
+package university.dao;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import university.exceptions.DaoException;
+
+public class TransactionManager implements Connector {
+
+    private final Connector connector;
+    private final ThreadLocal<Transaction> currentTransaction = new ThreadLocal<>();
+    private final List<Runnable> rollbackListeners = new CopyOnWriteArrayList<>();
+
+    public TransactionManager(Connector connector) {
+        if (connector == null) {
+            throw new IllegalArgumentException("Transactional connector can't be null!");
+        }
+        this.connector = connector;
+    }
+
+    @Override
+    public Connection getConnection() {
+        Transaction transaction = currentTransaction.get();
+        return transaction == null ? connector.getConnection() : transaction.boundConnection;
+    }
+
+    public void addRollbackListener(Runnable listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Rollback listener can't be null!");
+        }
+        rollbackListeners.add(listener);
+    }
+
+    public void inTransaction(Runnable work) {
+        inTransaction(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public <T> T inTransaction(Supplier<T> work) {
+        Transaction joined = currentTransaction.get();
+        if (joined != null) {
+            try {
+                return work.get();
+            } catch (RuntimeException | Error e) {
+                joined.rollbackOnly = true;
+                throw e;
+            }
+        }
+        Connection connection = connector.getConnection();
+        Transaction transaction = new Transaction(connection);
+        try {
+            connection.setAutoCommit(false);
+            currentTransaction.set(transaction);
+            T result = work.get();
+            if (transaction.rollbackOnly) {
+                // rolled back once, together with failed work, by the catch below
+                throw new DaoException("Transaction has been rolled back because it was marked rollback-only", null);
+            }
+            connection.commit();
+            return result;
+        } catch (SQLException e) {
+            rollbackQuietly(connection, e);
+            notifyRollback();
+            throw new DaoException("Can't complete transaction", e);
+        } catch (RuntimeException | Error e) {
+            rollbackQuietly(connection, e);
+            notifyRollback();
+            throw e;
+        } finally {
+            currentTransaction.remove();
+            release(connection);
+        }
+    }
+
+    public void setRollbackOnly() {
+        Transaction transaction = currentTransaction.get();
+        if (transaction == null) {
+            throw new IllegalStateException("There is no active transaction!");
+        }
+        transaction.rollbackOnly = true;
+    }
+
+    public boolean isActive() {
+        return currentTransaction.get() != null;
+    }
+
+    // caches filled from the bound connection may hold rows that were never committed
+    private void notifyRollback() {
+        rollbackListeners.forEach(Runnable::run);
+    }
+
+    private static void rollbackQuietly(Connection connection, Throwable cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static void release(Connection connection) {
+        try {
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            // the connection is closed below either way
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new DaoException("Can't close connection", e);
+        }
+    }
+
+    private static final class Transaction {
+
+        private final Connection boundConnection;
+        private boolean rollbackOnly;
+
+        private Transaction(Connection connection) {
+            this.boundConnection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                        case "close":
+                            return null;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        }
+                    });
+        }
+    }
+}
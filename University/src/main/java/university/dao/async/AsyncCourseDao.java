@@ -0,0 +1,45 @@
+package university.dao.async;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import university.dao.CourseDao;
+import university.entity.Course;
+import university.entity.EntitySummary;
+
+public class AsyncCourseDao extends AsyncCrudDao<Course, Integer> {
+
+    private final CourseDao courseDao;
+
+    public AsyncCourseDao(CourseDao courseDao, Executor executor) {
+        super(courseDao, executor);
+        this.courseDao = courseDao;
+    }
+
+    public CompletableFuture<Void> upsert(Course course) {
+        return run(() -> courseDao.upsert(course));
+    }
+
+    public CompletableFuture<List<Course>> upsertAll(Collection<Course> courses) {
+        return supply(() -> courseDao.upsertAll(courses));
+    }
+
+    public CompletableFuture<Optional<Course>> findByName(String courseName) {
+        return supply(() -> courseDao.findByName(courseName));
+    }
+
+    public CompletableFuture<List<Course>> findAllByStudentId(Integer studentId) {
+        return supply(() -> courseDao.findAllByStudentId(studentId));
+    }
+
+    public CompletableFuture<Map<Integer, List<Course>>> findAllByStudentIds(Collection<Integer> studentIds) {
+        return supply(() -> courseDao.findAllByStudentIds(studentIds));
+    }
+
+    public CompletableFuture<List<EntitySummary>> findAllSummaries() {
+        return supply(courseDao::findAllSummaries);
+    }
+}
@@ -0,0 +1,67 @@
+package university.dao.async;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import university.dao.CrudDao;
+
+public class AsyncCrudDao<E, ID> {
+
+    private final CrudDao<E, ID> dao;
+    private final Executor executor;
+
+    public AsyncCrudDao(CrudDao<E, ID> dao, Executor executor) {
+        if (dao == null || executor == null) {
+            throw new IllegalArgumentException("Dao and executor can't be null!");
+        }
+        this.dao = dao;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Void> save(E entity) {
+        return run(() -> dao.save(entity));
+    }
+
+    public CompletableFuture<List<E>> saveAll(Collection<E> entities) {
+        return supply(() -> dao.saveAll(entities));
+    }
+
+    public CompletableFuture<Optional<E>> findById(ID id) {
+        return supply(() -> dao.findById(id));
+    }
+
+    public CompletableFuture<List<E>> findAllById(Collection<ID> ids) {
+        return supply(() -> dao.findAllById(ids));
+    }
+
+    public CompletableFuture<List<E>> findAll() {
+        return supply(dao::findAll);
+    }
+
+    public CompletableFuture<List<E>> findAll(int limit, int offset) {
+        return supply(() -> dao.findAll(limit, offset));
+    }
+
+    public CompletableFuture<List<E>> findAllAfter(ID lastId, int limit) {
+        return supply(() -> dao.findAllAfter(lastId, limit));
+    }
+
+    public CompletableFuture<Void> deleteById(ID id) {
+        return run(() -> dao.deleteById(id));
+    }
+
+    public CompletableFuture<Void> deleteAllById(Collection<ID> ids) {
+        return run(() -> dao.deleteAllById(ids));
+    }
+
+    protected <T> CompletableFuture<T> supply(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    protected CompletableFuture<Void> run(Runnable update) {
+        return CompletableFuture.runAsync(update, executor);
+    }
+}
@@ -0,0 +1,35 @@
+package university.dao.async;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import university.dao.GroupDao;
+import university.entity.Group;
+
+public class AsyncGroupDao extends AsyncCrudDao<Group, Integer> {
+
+    private final GroupDao groupDao;
+
+    public AsyncGroupDao(GroupDao groupDao, Executor executor) {
+        super(groupDao, executor);
+        this.groupDao = groupDao;
+    }
+
+    public CompletableFuture<Void> upsert(Group group) {
+        return run(() -> groupDao.upsert(group));
+    }
+
+    public CompletableFuture<List<Group>> upsertAll(Collection<Group> groups) {
+        return supply(() -> groupDao.upsertAll(groups));
+    }
+
+    public CompletableFuture<List<Group>> findAllBySizeEqualsOrLess(Integer groupSize) {
+        return supply(() -> groupDao.findAllBySizeEqualsOrLess(groupSize));
+    }
+
+    public CompletableFuture<Map<Group, Integer>> countStudentsBySizeEqualsOrLess(Integer groupSize) {
+        return supply(() -> groupDao.countStudentsBySizeEqualsOrLess(groupSize));
+    }
+}
@@ -0,0 +1,52 @@
+package university.dao.async;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import university.dao.StudentDao;
+import university.entity.Student;
+
+public class AsyncStudentDao extends AsyncCrudDao<Student, Integer> {
+
+    private final StudentDao studentDao;
+
+    public AsyncStudentDao(StudentDao studentDao, Executor executor) {
+        super(studentDao, executor);
+        this.studentDao = studentDao;
+    }
+
+    public CompletableFuture<List<Student>> findAllByCourse(String courseName) {
+        return supply(() -> studentDao.findAllByCourse(courseName));
+    }
+
+    public CompletableFuture<Optional<Student>> findByIdWithCourses(Integer id) {
+        return supply(() -> studentDao.findByIdWithCourses(id));
+    }
+
+    public CompletableFuture<List<Student>> findAllWithCourses(Integer lastId, int limit) {
+        return supply(() -> studentDao.findAllWithCourses(lastId, limit));
+    }
+
+    public CompletableFuture<Void> deleteFromCourse(int studentId, int courseId) {
+        return run(() -> studentDao.deleteFromCourse(studentId, courseId));
+    }
+
+    public CompletableFuture<Void> deleteFromCourses(int studentId, Collection<Integer> coursesId) {
+        return run(() -> studentDao.deleteFromCourses(studentId, coursesId));
+    }
+
+    public CompletableFuture<Void> removeAllFromCourse(int courseId) {
+        return run(() -> studentDao.removeAllFromCourse(courseId));
+    }
+
+    public CompletableFuture<Void> insertStudentToCourses(Student student, List<Integer> coursesId) {
+        return run(() -> studentDao.insertStudentToCourses(student, coursesId));
+    }
+
+    public CompletableFuture<Void> insertEnrolments(Map<Integer, ? extends Collection<Integer>> coursesIdByStudentId) {
+        return run(() -> studentDao.insertEnrolments(coursesIdByStudentId));
+    }
+}
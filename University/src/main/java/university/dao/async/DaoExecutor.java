@@ -0,0 +1,55 @@
+package university.dao.async;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DaoExecutor implements Executor, AutoCloseable {
+
+    private static final String THREAD_NAME = "dao-async";
+    private static final int QUEUED_TASKS_PER_THREAD = 4;
+    private static final long SHUTDOWN_TIMEOUT = 5_000;
+
+    private final ThreadPoolExecutor executor;
+
+    public DaoExecutor(int maxConcurrency) {
+        this(maxConcurrency, THREAD_NAME);
+    }
+
+    public DaoExecutor(int maxConcurrency, String threadName) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Maximum concurrency must be positive!");
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConcurrency * QUEUED_TASKS_PER_THREAD), runnable -> {
+                    Thread thread = new Thread(runnable, threadName + "-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    public int getMaxConcurrency() {
+        return executor.getMaximumPoolSize();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package university.dao.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import university.dao.CourseDao;
+import university.entity.Course;
+import university.entity.EntitySummary;
+
+public class CachingCourseDao implements CourseDao {
+
+    private static final String ALL_COURSES_KEY = "all";
+
+    private final CourseDao courseDao;
+    private final EntityCache<Integer, Optional<Course>> coursesById;
+    private final EntityCache<String, Optional<Course>> coursesByName;
+    private final EntityCache<String, List<Course>> allCourses;
+
+    public CachingCourseDao(CourseDao courseDao, String propertiesPath) {
+        this(courseDao, new EntityCache<>(propertiesPath), new EntityCache<>(propertiesPath),
+                new EntityCache<>(propertiesPath));
+    }
+
+    public CachingCourseDao(CourseDao courseDao, EntityCache<Integer, Optional<Course>> coursesById,
+            EntityCache<String, Optional<Course>> coursesByName, EntityCache<String, List<Course>> allCourses) {
+        this.courseDao = courseDao;
+        this.coursesById = coursesById;
+        this.coursesByName = coursesByName;
+        this.allCourses = allCourses;
+    }
+
+    @Override
+    public void save(Course course) {
+        try {
+            courseDao.save(course);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public List<Course> saveAll(Collection<Course> courses) {
+        try {
+            return courseDao.saveAll(courses);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void upsert(Course course) {
+        try {
+            courseDao.upsert(course);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public List<Course> upsertAll(Collection<Course> courses) {
+        try {
+            return courseDao.upsertAll(courses);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public Optional<Course> findById(Integer id) {
+        return coursesById.get(id, courseDao::findById, Optional::isPresent);
+    }
+
+    @Override
+    public List<Course> findAllById(Collection<Integer> ids) {
+        return courseDao.findAllById(ids);
+    }
+
+    @Override
+    public List<Course> findAll() {
+        return new ArrayList<>(allCourses.get(ALL_COURSES_KEY, key -> courseDao.findAll()));
+    }
+
+    @Override
+    public Stream<Course> streamAll() {
+        return courseDao.streamAll();
+    }
+
+    @Override
+    public List<Course> findAll(int limit, int offset) {
+        return courseDao.findAll(limit, offset);
+    }
+
+    @Override
+    public List<Course> findAllAfter(Integer lastId, int limit) {
+        return courseDao.findAllAfter(lastId, limit);
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        try {
+            courseDao.deleteById(id);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteAllById(Collection<Integer> ids) {
+        try {
+            courseDao.deleteAllById(ids);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public Optional<Course> findByName(String courseName) {
+        return coursesByName.get(courseName, courseDao::findByName, Optional::isPresent);
+    }
+
+    @Override
+    public List<Course> findAllByStudentId(Integer studentId) {
+        return courseDao.findAllByStudentId(studentId);
+    }
+
+    @Override
+    public Map<Integer, List<Course>> findAllByStudentIds(Collection<Integer> studentIds) {
+        return courseDao.findAllByStudentIds(studentIds);
+    }
+
+    @Override
+    public List<EntitySummary> findAllSummaries() {
+        return courseDao.findAllSummaries();
+    }
+
+    public long getHitCount() {
+        return coursesById.getHitCount() + coursesByName.getHitCount() + allCourses.getHitCount();
+    }
+
+    public long getMissCount() {
+        return coursesById.getMissCount() + coursesByName.getMissCount() + allCourses.getMissCount();
+    }
+
+    public void invalidateAll() {
+        coursesById.invalidateAll();
+        coursesByName.invalidateAll();
+        allCourses.invalidateAll();
+    }
+}
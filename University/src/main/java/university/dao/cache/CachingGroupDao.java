@@ -0,0 +1,137 @@
+package university.dao.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import university.dao.GroupDao;
+import university.entity.Group;
+
+public class CachingGroupDao implements GroupDao {
+
+    private static final String ALL_GROUPS_KEY = "all";
+
+    private final GroupDao groupDao;
+    private final EntityCache<Integer, Optional<Group>> groupsById;
+    private final EntityCache<String, List<Group>> allGroups;
+
+    public CachingGroupDao(GroupDao groupDao, String propertiesPath) {
+        this(groupDao, new EntityCache<>(propertiesPath), new EntityCache<>(propertiesPath));
+    }
+
+    public CachingGroupDao(GroupDao groupDao, EntityCache<Integer, Optional<Group>> groupsById,
+            EntityCache<String, List<Group>> allGroups) {
+        this.groupDao = groupDao;
+        this.groupsById = groupsById;
+        this.allGroups = allGroups;
+    }
+
+    @Override
+    public void save(Group group) {
+        try {
+            groupDao.save(group);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public List<Group> saveAll(Collection<Group> groups) {
+        try {
+            return groupDao.saveAll(groups);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void upsert(Group group) {
+        try {
+            groupDao.upsert(group);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public List<Group> upsertAll(Collection<Group> groups) {
+        try {
+            return groupDao.upsertAll(groups);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public Optional<Group> findById(Integer id) {
+        return groupsById.get(id, groupDao::findById, Optional::isPresent);
+    }
+
+    @Override
+    public List<Group> findAllById(Collection<Integer> ids) {
+        return groupDao.findAllById(ids);
+    }
+
+    @Override
+    public List<Group> findAll() {
+        return new ArrayList<>(allGroups.get(ALL_GROUPS_KEY, key -> groupDao.findAll()));
+    }
+
+    @Override
+    public Stream<Group> streamAll() {
+        return groupDao.streamAll();
+    }
+
+    @Override
+    public List<Group> findAll(int limit, int offset) {
+        return groupDao.findAll(limit, offset);
+    }
+
+    @Override
+    public List<Group> findAllAfter(Integer lastId, int limit) {
+        return groupDao.findAllAfter(lastId, limit);
+    }
+
+    @Override
+    public void deleteById(Integer id) {
+        try {
+            groupDao.deleteById(id);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteAllById(Collection<Integer> ids) {
+        try {
+            groupDao.deleteAllById(ids);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public List<Group> findAllBySizeEqualsOrLess(Integer groupSize) {
+        return groupDao.findAllBySizeEqualsOrLess(groupSize);
+    }
+
+    @Override
+    public Map<Group, Integer> countStudentsBySizeEqualsOrLess(Integer groupSize) {
+        return groupDao.countStudentsBySizeEqualsOrLess(groupSize);
+    }
+
+    public long getHitCount() {
+        return groupsById.getHitCount() + allGroups.getHitCount();
+    }
+
+    public long getMissCount() {
+        return groupsById.getMissCount() + allGroups.getMissCount();
+    }
+
+    public void invalidateAll() {
+        groupsById.invalidateAll();
+        allGroups.invalidateAll();
+    }
+}
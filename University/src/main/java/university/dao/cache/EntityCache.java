@@ -0,0 +1,149 @@
+package university.dao.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+public class EntityCache<K, V> {
+
+    private static final String PROPERTY_ENABLED = "cache.enabled";
+    private static final String PROPERTY_MAX_SIZE = "cache.maxSize";
+    private static final String PROPERTY_TIME_TO_LIVE = "cache.timeToLive";
+    private static final int DEFAULT_MAX_SIZE = 1000;
+    private static final long DEFAULT_TIME_TO_LIVE = 300_000;
+
+    private final int maxSize;
+    private final long timeToLive;
+    private final LongSupplier clock;
+    private final Map<K, Entry<V>> entries;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private long generation;
+
+    public EntityCache(String propertiesPath) {
+        this(readMaxSize(propertiesPath), readTimeToLive(propertiesPath));
+    }
+
+    public EntityCache(int maxSize, long timeToLive) {
+        this(maxSize, timeToLive, System::currentTimeMillis);
+    }
+
+    EntityCache(int maxSize, long timeToLive, LongSupplier clock) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Cache size must be positive!");
+        }
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public static boolean isEnabled(String propertiesPath) {
+        ResourceBundle resources = getBundle(propertiesPath);
+        return resources.containsKey(PROPERTY_ENABLED)
+                && Boolean.parseBoolean(resources.getString(PROPERTY_ENABLED).trim());
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        return get(key, loader, value -> true);
+    }
+
+    public V get(K key, Function<K, V> loader, Predicate<V> cacheable) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(clock.getAsLong())) {
+                hitCount.incrementAndGet();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictionCount.incrementAndGet();
+            }
+            loadGeneration = generation;
+        }
+        missCount.incrementAndGet();
+        V value = loader.apply(key);
+        synchronized (this) {
+            if (loadGeneration == generation && cacheable.test(value)) {
+                entries.put(key, new Entry<>(value, clock.getAsLong()));
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private static int readMaxSize(String propertiesPath) {
+        ResourceBundle resources = getBundle(propertiesPath);
+        return resources.containsKey(PROPERTY_MAX_SIZE)
+                ? Integer.parseInt(resources.getString(PROPERTY_MAX_SIZE).trim())
+                : DEFAULT_MAX_SIZE;
+    }
+
+    private static long readTimeToLive(String propertiesPath) {
+        ResourceBundle resources = getBundle(propertiesPath);
+        return resources.containsKey(PROPERTY_TIME_TO_LIVE)
+                ? Long.parseLong(resources.getString(PROPERTY_TIME_TO_LIVE).trim())
+                : DEFAULT_TIME_TO_LIVE;
+    }
+
+    private static ResourceBundle getBundle(String propertiesPath) {
+        try {
+            return ResourceBundle.getBundle(propertiesPath);
+        } catch (MissingResourceException | NullPointerException e) {
+            throw new IllegalArgumentException("This properties path not exists!" + propertiesPath, e);
+        }
+    }
+
+    private final class Entry<T> {
+
+        private final T value;
+        private final long createdAt;
+
+        private Entry(T value, long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+
+        private boolean isExpired(long now) {
+            return timeToLive > 0 && now - createdAt > timeToLive;
+        }
+    }
+}
@@ -1,33 +1,63 @@
 package university.dao.impl;
 
+import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import university.dao.Connector;
 import university.dao.CrudDao;
 import university.exceptions.DaoException;
 
 public abstract class AbstractCrudImpl<E> implements CrudDao<E, Integer> {
 
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+    private static final String ID_ARRAY_TYPE = "INTEGER";
+    private static final String ARRAY_PARAMETER = "= ANY(?)";
+    private static final int NO_ID = 0;
+    private static final String POSTGRESQL_PRODUCT_NAME = "PostgreSQL";
+
     protected final Connector connector;
     private final String saveQuery;
     private final String findByIdQuery;
+    private final String findAllByIdQuery;
     private final String findAllQuery;
     private final String findAllPaginationQuery;
+    private final String findAllAfterQuery;
     private final String deleteByIdQuery;
+    private final String deleteAllByIdQuery;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int fetchSize = DEFAULT_FETCH_SIZE;
 
-    protected AbstractCrudImpl(Connector connector, String saveQuery, String getByIdQuery, String getAllQuery,
-            String findAllPaginationQuery, String deleteByIdQuery) {
+    protected AbstractCrudImpl(Connector connector, String saveQuery, String getByIdQuery, String findAllByIdQuery,
+            String getAllQuery, String findAllPaginationQuery, String findAllAfterQuery, String deleteByIdQuery,
+            String deleteAllByIdQuery) {
         this.connector = connector;
         this.saveQuery = saveQuery;
         this.findByIdQuery = getByIdQuery;
+        this.findAllByIdQuery = findAllByIdQuery;
         this.findAllQuery = getAllQuery;
         this.findAllPaginationQuery = findAllPaginationQuery;
+        this.findAllAfterQuery = findAllAfterQuery;
         this.deleteByIdQuery = deleteByIdQuery;
+        this.deleteAllByIdQuery = deleteAllByIdQuery;
     }
 
     @Override
@@ -41,6 +71,33 @@ public abstract class AbstractCrudImpl<E> implements CrudDao<E, Integer> {
         }
     }
 
+    @Override
+    public List<E> saveAll(Collection<E> entities) {
+        try (Connection connection = connector.getConnection()) {
+            return executeInTransaction(connection, transactional -> {
+                try (PreparedStatement statement = transactional.prepareStatement(saveQuery,
+                        Statement.RETURN_GENERATED_KEYS)) {
+                    List<E> savedEntities = new ArrayList<>(entities.size());
+                    List<E> batch = new ArrayList<>();
+                    for (E entity : entities) {
+                        insert(statement, entity);
+                        statement.addBatch();
+                        batch.add(entity);
+                        if (batch.size() == batchSize) {
+                            executeSaveBatch(statement, batch, savedEntities);
+                        }
+                    }
+                    if (!batch.isEmpty()) {
+                        executeSaveBatch(statement, batch, savedEntities);
+                    }
+                    return savedEntities;
+                }
+            });
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Can't save entities", e);
+        }
+    }
+
     @Override
     public Optional<E> findById(Integer id) {
         try (Connection connection = connector.getConnection();
@@ -54,6 +111,34 @@ public abstract class AbstractCrudImpl<E> implements CrudDao<E, Integer> {
         }
     }
 
+    @Override
+    public List<E> findAllById(Collection<Integer> ids) {
+        if (ids == null) {
+            throw new DaoException("Ids to return can't be null", null);
+        }
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try (Connection connection = connector.getConnection()) {
+            Map<Integer, E> entitiesById = new HashMap<>();
+            executeForIds(connection, findAllByIdQuery, ids, statement -> {
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        E entity = createEntityFromResultSet(resultSet);
+                        entitiesById.put(getEntityId(entity), entity);
+                    }
+                }
+            });
+            return ids.stream()
+                    .distinct()
+                    .map(entitiesById::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Can't return " + ids.size() + " entities by id", e);
+        }
+    }
+
     @Override
     public List<E> findAll() {
         try (Connection connection = connector.getConnection();
@@ -69,6 +154,11 @@ public abstract class AbstractCrudImpl<E> implements CrudDao<E, Integer> {
         }
     }
 
+    @Override
+    public Stream<E> streamAll() {
+        return streamQuery(findAllQuery, this::createEntityFromResultSet);
+    }
+
     @Override
     public List<E> findAll(int limit, int offset) {
         try (Connection connection = connector.getConnection();
@@ -88,6 +178,24 @@ public abstract class AbstractCrudImpl<E> implements CrudDao<E, Integer> {
 
     }
 
+    @Override
+    public List<E> findAllAfter(Integer lastId, int limit) {
+        try (Connection connection = connector.getConnection();
+                PreparedStatement statement = connection.prepareStatement(findAllAfterQuery)) {
+            statement.setInt(1, lastId == null ? NO_ID : lastId);
+            statement.setInt(2, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                List<E> entities = new ArrayList<>();
+                while (resultSet.next()) {
+                    entities.add(createEntityFromResultSet(resultSet));
+                }
+                return entities;
+            }
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Can't return " + limit + " entities after id " + lastId, e);
+        }
+    }
+
     @Override
     public void deleteById(Integer id) {
         try (Connection connection = connector.getConnection();
@@ -99,7 +207,260 @@ public abstract class AbstractCrudImpl<E> implements CrudDao<E, Integer> {
         }
     }
 
+    @Override
+    public void deleteAllById(Collection<Integer> ids) {
+        if (ids == null) {
+            throw new DaoException("Ids to delete can't be null", null);
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        try (Connection connection = connector.getConnection()) {
+            executeForIds(connection, deleteAllByIdQuery, ids, PreparedStatement::executeUpdate);
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Can't delete " + ids.size() + " entities by id", e);
+        }
+    }
+
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive!");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Fetch size must be positive!");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    protected int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Runs a query with a single {@code = ANY(?)} id parameter. Drivers without SQL array support get the ids as
+     * {@code IN (...)} lists of at most batch size ids, one statement per chunk in a single transaction.
+     */
+    protected void executeForIds(Connection connection, String idArrayQuery, Collection<Integer> ids,
+            StatementWork work) throws SQLException {
+        executeForIds(connection, idArrayQuery, 0, statement -> {
+        }, ids, work);
+    }
+
+    /**
+     * Same as {@link #executeForIds(Connection, String, Collection, StatementWork)} for queries whose id parameter
+     * follows {@code leadingParameters} parameters set by {@code leadingBinder}.
+     */
+    protected void executeForIds(Connection connection, String idArrayQuery, int leadingParameters,
+            StatementWork leadingBinder, Collection<Integer> ids, StatementWork work) throws SQLException {
+        executeForKeys(connection, idArrayQuery, leadingParameters, leadingBinder, ID_ARRAY_TYPE, ids, work);
+    }
+
+    /**
+     * Same as {@link #executeForIds(Connection, String, int, StatementWork, Collection, StatementWork)} for keys
+     * bound as an array of {@code arrayType}.
+     */
+    protected void executeForKeys(Connection connection, String arrayQuery, int leadingParameters,
+            StatementWork leadingBinder, String arrayType, Collection<?> keys, StatementWork work)
+            throws SQLException {
+        Array keyArray;
+        try {
+            keyArray = connection.createArrayOf(arrayType, keys.toArray());
+        } catch (SQLFeatureNotSupportedException e) {
+            keyArray = null;
+        }
+        if (keyArray != null) {
+            try (PreparedStatement statement = connection.prepareStatement(arrayQuery)) {
+                leadingBinder.execute(statement);
+                statement.setArray(leadingParameters + 1, keyArray);
+                work.execute(statement);
+            }
+            return;
+        }
+        List<Object> distinctKeys = new ArrayList<>(new LinkedHashSet<>(keys));
+        executeInTransaction(connection, transactional -> {
+            for (int from = 0; from < distinctKeys.size(); from += batchSize) {
+                List<Object> chunk = distinctKeys.subList(from, Math.min(from + batchSize, distinctKeys.size()));
+                try (PreparedStatement statement = transactional.prepareStatement(
+                        toInListQuery(arrayQuery, chunk.size()))) {
+                    leadingBinder.execute(statement);
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setObject(leadingParameters + i + 1, chunk.get(i));
+                    }
+                    work.execute(statement);
+                }
+            }
+            return null;
+        });
+    }
+
+    protected <T> Stream<T> streamQuery(String query, RowMapper<T> mapper) {
+        Connection connection = connector.getConnection();
+        PreparedStatement statement = null;
+        boolean autoCommit = true;
+        try {
+            autoCommit = connection.getAutoCommit();
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            }
+            statement = connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            ResultSet resultSet = statement.executeQuery();
+            PreparedStatement cursorStatement = statement;
+            boolean restoreAutoCommit = autoCommit;
+            return StreamSupport.stream(new ResultSetSpliterator<>(resultSet, mapper), false)
+                    .onClose(() -> closeCursor(connection, cursorStatement, restoreAutoCommit));
+        } catch (SQLException e) {
+            DaoException failure = new DaoException("Can't stream query results", e);
+            abortCursor(connection, statement, autoCommit, failure);
+            throw failure;
+        } catch (RuntimeException e) {
+            abortCursor(connection, statement, autoCommit, e);
+            throw e;
+        }
+    }
+
+    protected boolean isPostgreSql(Connection connection) throws SQLException {
+        return POSTGRESQL_PRODUCT_NAME.equals(connection.getMetaData().getDatabaseProductName());
+    }
+
+    protected <T> T executeInTransaction(Connection connection, SqlWork<T> work) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        if (!autoCommit) {
+            return work.execute(connection);
+        }
+        connection.setAutoCommit(false);
+        try {
+            T result = work.execute(connection);
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private void closeCursor(Connection connection, PreparedStatement statement, boolean autoCommit) {
+        try {
+            statement.close();
+            if (autoCommit) {
+                connection.commit();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new DaoException("Can't close entities stream", e);
+        } finally {
+            closeQuietly(connection);
+        }
+    }
+
+    private static String toInListQuery(String arrayQuery, int numberKeys) {
+        if (!arrayQuery.contains(ARRAY_PARAMETER)) {
+            throw new IllegalArgumentException("Query has no array parameter: " + arrayQuery);
+        }
+        return arrayQuery.replace(ARRAY_PARAMETER,
+                Stream.generate(() -> "?").limit(numberKeys).collect(Collectors.joining(", ", "IN (", ")")));
+    }
+
+    // nothing has been read yet, so the connection goes back the way it was borrowed
+    private static void abortCursor(Connection connection, PreparedStatement statement, boolean autoCommit,
+            Throwable failure) {
+        try {
+            if (statement != null) {
+                statement.close();
+            }
+            if (autoCommit && !connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            failure.addSuppressed(e);
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                throw new DaoException("Can't close connection", e);
+            }
+        }
+    }
+
+    private void executeSaveBatch(PreparedStatement statement, List<E> batch, List<E> savedEntities)
+            throws SQLException {
+        statement.executeBatch();
+        try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+            for (E entity : batch) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("Generated keys are not returned for " + entity);
+                }
+                savedEntities.add(createEntityWithId(entity, generatedKeys.getInt(1)));
+            }
+        }
+        batch.clear();
+    }
+
     protected abstract void insert(PreparedStatement statement, E entity) throws SQLException;
 
+    protected abstract E createEntityWithId(E entity, Integer id);
+
+    protected abstract Integer getEntityId(E entity);
+
     protected abstract E createEntityFromResultSet(ResultSet resultSet) throws SQLException;
+
+    private static class ResultSetSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+        private final ResultSet resultSet;
+        private final RowMapper<T> mapper;
+
+        private ResultSetSpliterator(ResultSet resultSet, RowMapper<T> mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.resultSet = resultSet;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                action.accept(mapper.map(resultSet));
+                return true;
+            } catch (SQLException e) {
+                throw new DaoException("Can't read next entity", e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    protected interface RowMapper<T> {
+
+        T map(ResultSet resultSet) throws SQLException;
+    }
+
+    @FunctionalInterface
+    protected interface StatementWork {
+
+        void execute(PreparedStatement statement) throws SQLException;
+    }
+
+    @FunctionalInterface
+    protected interface SqlWork<T> {
+
+        T execute(Connection connection) throws SQLException;
+    }
 }
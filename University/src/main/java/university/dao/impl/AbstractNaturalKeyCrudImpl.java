@@ -0,0 +1,95 @@
+package university.dao.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import university.dao.Connector;
+import university.dao.NaturalKeyDao;
+import university.exceptions.DaoException;
+
+public abstract class AbstractNaturalKeyCrudImpl<E> extends AbstractCrudImpl<E> implements NaturalKeyDao<E> {
+
+    private static final String KEY_ARRAY_TYPE = "VARCHAR";
+
+    protected AbstractNaturalKeyCrudImpl(Connector connector, String saveQuery, String getByIdQuery,
+            String findAllByIdQuery, String findAllQuery, String findAllPaginationQuery, String findAllAfterQuery,
+            String deleteByIdQuery, String deleteAllByIdQuery) {
+        super(connector, saveQuery, getByIdQuery, findAllByIdQuery, findAllQuery, findAllPaginationQuery,
+                findAllAfterQuery, deleteByIdQuery, deleteAllByIdQuery);
+    }
+
+    @Override
+    public void upsert(E entity) {
+        upsertAll(Collections.singletonList(entity));
+    }
+
+    @Override
+    public List<E> upsertAll(Collection<E> entities) {
+        if (entities != null && entities.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try (Connection connection = connector.getConnection()) {
+            Map<String, E> entitiesByKey = new LinkedHashMap<>();
+            for (E entity : entities) {
+                entitiesByKey.put(getNaturalKey(entity), entity);
+            }
+            String upsertQuery = getUpsertQuery(isPostgreSql(connection));
+            return executeInTransaction(connection, transactional -> {
+                try (PreparedStatement statement = transactional.prepareStatement(upsertQuery)) {
+                    int batchCount = 0;
+                    for (E entity : entitiesByKey.values()) {
+                        insert(statement, entity);
+                        statement.addBatch();
+                        if (++batchCount == getBatchSize()) {
+                            statement.executeBatch();
+                            batchCount = 0;
+                        }
+                    }
+                    if (batchCount > 0) {
+                        statement.executeBatch();
+                    }
+                }
+                return findAllByNaturalKey(transactional, entities, entitiesByKey.keySet());
+            });
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Can't upsert entities", e);
+        }
+    }
+
+    private List<E> findAllByNaturalKey(Connection connection, Collection<E> entities, Collection<String> keys)
+            throws SQLException {
+        Map<String, E> savedByKey = new HashMap<>();
+        executeForKeys(connection, getFindAllByNaturalKeyQuery(), 0, statement -> {
+        }, KEY_ARRAY_TYPE, keys, statement -> {
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    E saved = createEntityFromResultSet(resultSet);
+                    savedByKey.put(getNaturalKey(saved), saved);
+                }
+            }
+        });
+        List<E> savedEntities = new ArrayList<>(entities.size());
+        for (E entity : entities) {
+            E saved = savedByKey.get(getNaturalKey(entity));
+            if (saved == null) {
+                throw new DaoException("Upserted " + entity + " can't be read back by its natural key", null);
+            }
+            savedEntities.add(saved);
+        }
+        return savedEntities;
+    }
+
+    protected abstract String getUpsertQuery(boolean postgreSql);
+
+    protected abstract String getFindAllByNaturalKeyQuery();
+
+    protected abstract String getNaturalKey(E entity);
+}
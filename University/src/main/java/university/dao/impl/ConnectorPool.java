@@ -0,0 +1,338 @@
+package university.dao.impl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import university.dao.Connector;
+import university.exceptions.DaoException;
+
+public class ConnectorPool implements Connector, AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(ConnectorPool.class.getName());
+    private static final String PROPERTY_ENABLED = "pool.enabled";
+    private static final String PROPERTY_MAX_SIZE = "pool.maxSize";
+    private static final String PROPERTY_IDLE_TIMEOUT = "pool.idleTimeout";
+    private static final String PROPERTY_MAX_LIFETIME = "pool.maxLifetime";
+    private static final String PROPERTY_CONNECTION_TIMEOUT = "pool.connectionTimeout";
+    private static final String PROPERTY_VALIDATION_TIMEOUT = "pool.validationTimeout";
+    private static final String PROPERTY_LEAK_DETECTION_THRESHOLD = "pool.leakDetectionThreshold";
+    private static final String PROPERTY_STATEMENT_CACHE_SIZE = "pool.statementCacheSize";
+    private static final int DEFAULT_MAX_SIZE = 10;
+    private static final long DEFAULT_IDLE_TIMEOUT = 600_000;
+    private static final long DEFAULT_MAX_LIFETIME = 1_800_000;
+    private static final long DEFAULT_CONNECTION_TIMEOUT = 30_000;
+    private static final int DEFAULT_VALIDATION_TIMEOUT = 5;
+    private static final long DEFAULT_LEAK_DETECTION_THRESHOLD = 0;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+    private static final long HOUSEKEEPING_PERIOD = 1_000;
+
+    private final Connector connector;
+    private final int maxSize;
+    private final long idleTimeout;
+    private final long maxLifetime;
+    private final long connectionTimeout;
+    private final int validationTimeout;
+    private final long leakDetectionThreshold;
+    private final int statementCacheSize;
+    private final AtomicLong statementHitCount = new AtomicLong();
+    private final AtomicLong statementMissCount = new AtomicLong();
+    private final Semaphore permits;
+    private final BlockingDeque<PooledConnection> idleConnections = new LinkedBlockingDeque<>();
+    private final Map<PooledConnection, Boolean> borrowedConnections = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    public ConnectorPool(Connector connector, String propertiesPath) {
+        if (connector == null) {
+            throw new IllegalArgumentException("Pooled connector can't be null!");
+        }
+        try {
+            ResourceBundle resources = ResourceBundle.getBundle(propertiesPath);
+            this.maxSize = (int) readLong(resources, PROPERTY_MAX_SIZE, DEFAULT_MAX_SIZE);
+            this.idleTimeout = readLong(resources, PROPERTY_IDLE_TIMEOUT, DEFAULT_IDLE_TIMEOUT);
+            this.maxLifetime = readLong(resources, PROPERTY_MAX_LIFETIME, DEFAULT_MAX_LIFETIME);
+            this.connectionTimeout = readLong(resources, PROPERTY_CONNECTION_TIMEOUT, DEFAULT_CONNECTION_TIMEOUT);
+            this.validationTimeout = (int) readLong(resources, PROPERTY_VALIDATION_TIMEOUT, DEFAULT_VALIDATION_TIMEOUT);
+            this.leakDetectionThreshold = readLong(resources, PROPERTY_LEAK_DETECTION_THRESHOLD,
+                    DEFAULT_LEAK_DETECTION_THRESHOLD);
+            this.statementCacheSize = (int) readLong(resources, PROPERTY_STATEMENT_CACHE_SIZE,
+                    DEFAULT_STATEMENT_CACHE_SIZE);
+        } catch (MissingResourceException | NullPointerException e) {
+            throw new IllegalArgumentException("This properties path not exists!" + propertiesPath, e);
+        }
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be positive!");
+        }
+        this.connector = connector;
+        this.permits = new Semaphore(maxSize, true);
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connector-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::houseKeep, HOUSEKEEPING_PERIOD, HOUSEKEEPING_PERIOD,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public static boolean isEnabled(String propertiesPath) {
+        try {
+            ResourceBundle resources = ResourceBundle.getBundle(propertiesPath);
+            return resources.containsKey(PROPERTY_ENABLED)
+                    && Boolean.parseBoolean(resources.getString(PROPERTY_ENABLED).trim());
+        } catch (MissingResourceException | NullPointerException e) {
+            throw new IllegalArgumentException("This properties path not exists!" + propertiesPath, e);
+        }
+    }
+
+    @Override
+    public Connection getConnection() {
+        if (closed) {
+            throw new DaoException("Connection pool is closed", null);
+        }
+        try {
+            if (!permits.tryAcquire(connectionTimeout, TimeUnit.MILLISECONDS)) {
+                throw new DaoException("Connection is not available, request timed out after "
+                        + connectionTimeout + "ms", null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DaoException("Interrupted while waiting for connection", e);
+        }
+        try {
+            PooledConnection pooledConnection = takeIdleConnection();
+            if (pooledConnection == null) {
+                pooledConnection = new PooledConnection(connector.getConnection());
+            }
+            borrowedConnections.put(pooledConnection, Boolean.TRUE);
+            return pooledConnection.borrow();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    public int getActiveCount() {
+        return borrowedConnections.size();
+    }
+
+    public long getStatementCacheHitCount() {
+        return statementHitCount.get();
+    }
+
+    public long getStatementCacheMissCount() {
+        return statementMissCount.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        PooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            pooledConnection.closePhysical();
+        }
+    }
+
+    private PooledConnection takeIdleConnection() {
+        PooledConnection pooledConnection;
+        while ((pooledConnection = idleConnections.pollFirst()) != null) {
+            if (!pooledConnection.isIdleExpired(System.currentTimeMillis()) && pooledConnection.isValid()) {
+                return pooledConnection;
+            }
+            pooledConnection.closePhysical();
+        }
+        return null;
+    }
+
+    private void release(PooledConnection pooledConnection) {
+        borrowedConnections.remove(pooledConnection);
+        try {
+            if (closed || pooledConnection.isRetired(System.currentTimeMillis()) || !pooledConnection.reset()) {
+                pooledConnection.closePhysical();
+            } else {
+                idleConnections.offerFirst(pooledConnection);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void houseKeep() {
+        long now = System.currentTimeMillis();
+        Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+        while (iterator.hasNext()) {
+            PooledConnection pooledConnection = iterator.next();
+            if (pooledConnection.isIdleExpired(now) && idleConnections.remove(pooledConnection)) {
+                pooledConnection.closePhysical();
+            }
+        }
+        if (leakDetectionThreshold > 0) {
+            for (PooledConnection pooledConnection : borrowedConnections.keySet()) {
+                pooledConnection.reportLeak(now);
+            }
+        }
+    }
+
+    private static long readLong(ResourceBundle resources, String key, long defaultValue) {
+        if (!resources.containsKey(key) || resources.getString(key).trim().isEmpty()) {
+            return defaultValue;
+        }
+        return Long.parseLong(resources.getString(key).trim());
+    }
+
+    private final class PooledConnection {
+
+        private final Connection connection;
+        private final StatementCache statementCache;
+        private final long createdAt;
+        private volatile long lastAccessed;
+        private volatile long borrowedAt;
+        private volatile Throwable borrowTrace;
+        private volatile boolean leakReported;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.statementCache = statementCacheSize > 0
+                    ? new StatementCache(connection, statementCacheSize, statementHitCount, statementMissCount)
+                    : null;
+            this.createdAt = System.currentTimeMillis();
+            this.lastAccessed = createdAt;
+        }
+
+        private Connection borrow() {
+            leakReported = false;
+            borrowedAt = System.currentTimeMillis();
+            borrowTrace = leakDetectionThreshold > 0 ? new Exception("Connection borrowed here") : null;
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, new ConnectionHandle(this));
+        }
+
+        private boolean reset() {
+            try {
+                if (connection.isClosed()) {
+                    return false;
+                }
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+                lastAccessed = System.currentTimeMillis();
+                return true;
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private boolean isValid() {
+            try {
+                return connection.isValid(validationTimeout);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        private boolean isRetired(long now) {
+            return maxLifetime > 0 && now - createdAt > maxLifetime;
+        }
+
+        private boolean isIdleExpired(long now) {
+            return isRetired(now) || (idleTimeout > 0 && now - lastAccessed > idleTimeout);
+        }
+
+        private void reportLeak(long now) {
+            if (!leakReported && now - borrowedAt > leakDetectionThreshold) {
+                leakReported = true;
+                LOGGER.log(Level.WARNING, "Connection leak detection triggered for " + connection
+                        + ", it was borrowed " + (now - borrowedAt) + "ms ago", borrowTrace);
+            }
+        }
+
+        private void closePhysical() {
+            if (statementCache != null) {
+                statementCache.close();
+            }
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.FINE, "Unable to close pooled connection " + connection, e);
+            }
+        }
+    }
+
+    private final class ConnectionHandle implements InvocationHandler {
+
+        private final PooledConnection pooledConnection;
+        private boolean released;
+
+        private ConnectionHandle(PooledConnection pooledConnection) {
+            this.pooledConnection = pooledConnection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+            case "close":
+                if (!released) {
+                    released = true;
+                    release(pooledConnection);
+                }
+                return null;
+            case "isClosed":
+                return released || pooledConnection.connection.isClosed();
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "Pooled " + pooledConnection.connection;
+            default:
+                if (released) {
+                    throw new SQLException("Connection is closed");
+                }
+                if (isCacheable(method)) {
+                    return pooledConnection.statementCache.prepare((Connection) proxy, (String) args[0],
+                            args.length > 1 ? (int) args[1] : Statement.NO_GENERATED_KEYS);
+                }
+                try {
+                    return method.invoke(pooledConnection.connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+
+        private boolean isCacheable(Method method) {
+            if (pooledConnection.statementCache == null || !"prepareStatement".equals(method.getName())) {
+                return false;
+            }
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            return parameterTypes.length == 1 || (parameterTypes.length == 2 && parameterTypes[1] == int.class);
+        }
+    }
+}
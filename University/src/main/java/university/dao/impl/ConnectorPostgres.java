@@ -13,6 +13,8 @@ public class ConnectorPostgres implements Connector {
     private static final String PROPERTY_URL = "url";
     private static final String PROPERTY_USERNAME = "username";
     private static final String PROPERTY_PASSWORD = "password";
+    private static final String PROPERTY_PREPARE_THRESHOLD = "prepareThreshold";
+    private static final String PROPERTY_REWRITE_BATCHED_INSERTS = "reWriteBatchedInserts";
 
     private final BaseDataSource dataSource;
     private final String user;
@@ -25,6 +27,14 @@ public class ConnectorPostgres implements Connector {
             this.url = resources.getString(PROPERTY_URL);
             this.user = resources.getString(PROPERTY_USERNAME);
             this.password = resources.getString(PROPERTY_PASSWORD);
+            if (resources.containsKey(PROPERTY_PREPARE_THRESHOLD)) {
+                String prepareThreshold = resources.getString(PROPERTY_PREPARE_THRESHOLD).trim();
+                dataSource.setPrepareThreshold(Integer.parseInt(prepareThreshold));
+            }
+            if (resources.containsKey(PROPERTY_REWRITE_BATCHED_INSERTS)) {
+                String reWriteBatchedInserts = resources.getString(PROPERTY_REWRITE_BATCHED_INSERTS).trim();
+                dataSource.setReWriteBatchedInserts(Boolean.parseBoolean(reWriteBatchedInserts));
+            }
         } catch (MissingResourceException | NullPointerException e) {
             throw new IllegalArgumentException("This properties path not exists!" + propertiesPath, e);
         }
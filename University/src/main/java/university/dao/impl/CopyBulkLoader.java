@@ -0,0 +1,123 @@
+package university.dao.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.core.BaseConnection;
+import university.dao.BulkLoader;
+import university.dao.Connector;
+import university.dao.LoadReport;
+import university.exceptions.DaoException;
+
+public class CopyBulkLoader implements BulkLoader {
+
+    private static final String COPY_QUERY = "COPY %s (%s) FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_QUERY = "INSERT INTO %s (%s) VALUES(%s);";
+    private static final String DELIMITER = ",";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final Connector connector;
+
+    public CopyBulkLoader(Connector connector) {
+        this.connector = connector;
+    }
+
+    @Override
+    public LoadReport load(String table, List<String> columns, Stream<Object[]> rows) {
+        long start = System.currentTimeMillis();
+        try (Connection connection = connector.getConnection(); Stream<Object[]> closeableRows = rows) {
+            long loadedRows = connection.isWrapperFor(BaseConnection.class)
+                    ? copy(connection.unwrap(BaseConnection.class), table, columns, closeableRows.iterator())
+                    : insert(connection, table, columns, closeableRows.iterator());
+            return new LoadReport(table, loadedRows, System.currentTimeMillis() - start);
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Can't load rows into " + table, e);
+        }
+    }
+
+    private long copy(BaseConnection connection, String table, List<String> columns, Iterator<Object[]> rows)
+            throws SQLException {
+        CopyIn copyIn = new CopyManager(connection)
+                .copyIn(String.format(COPY_QUERY, table, String.join(DELIMITER, columns)));
+        try {
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE);
+            while (rows.hasNext()) {
+                appendCsvLine(buffer, rows.next());
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    writeToCopy(copyIn, buffer);
+                }
+            }
+            writeToCopy(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private long insert(Connection connection, String table, List<String> columns, Iterator<Object[]> rows)
+            throws SQLException {
+        String placeholders = String.join(DELIMITER, Collections.nCopies(columns.size(), "?"));
+        String query = String.format(INSERT_QUERY, table, String.join(DELIMITER, columns), placeholders);
+        boolean autoCommit = connection.getAutoCommit();
+        if (autoCommit) {
+            connection.setAutoCommit(false);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            long loadedRows = 0;
+            while (rows.hasNext()) {
+                Object[] row = rows.next();
+                for (int i = 0; i < row.length; i++) {
+                    statement.setObject(i + 1, row[i]);
+                }
+                statement.addBatch();
+                if (++loadedRows % INSERT_BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+            if (autoCommit) {
+                connection.commit();
+            }
+            return loadedRows;
+        } catch (SQLException | RuntimeException e) {
+            if (autoCommit) {
+                connection.rollback();
+            }
+            throw e;
+        } finally {
+            if (autoCommit) {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static void writeToCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    private static void appendCsvLine(StringBuilder buffer, Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                buffer.append(DELIMITER);
+            }
+            if (row[i] instanceof Number) {
+                buffer.append(row[i]);
+            } else if (row[i] != null) {
+                buffer.append('"').append(row[i].toString().replace("\"", "\"\"")).append('"');
+            }
+        }
+        buffer.append('\n');
+    }
+}
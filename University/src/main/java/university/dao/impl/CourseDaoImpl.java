@@ -5,26 +5,53 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import university.dao.Connector;
 import university.dao.CourseDao;
 import university.entity.Course;
+import university.entity.EntitySummary;
 import university.exceptions.DaoException;
 
-public class CourseDaoImpl extends AbstractCrudImpl<Course> implements CourseDao {
+public class CourseDaoImpl extends AbstractNaturalKeyCrudImpl<Course> implements CourseDao {
 
     private static final String SAVE_QUERY = "INSERT INTO courses (course_name, course_description) VALUES(?,?);";
-    private static final String FIND_BY_ID_QUERY = "SELECT  * FROM courses WHERE course_id =  ?;";
-    private static final String FIND_ALL_QUERY = "SELECT * FROM courses ORDER BY course_id;";
-    private static final String FIND_ALL_PAGINATION_QUERY = "SELECT * FROM courses ORDER BY course_id LIMIT ? OFFSET ?;";
+    private static final String UPSERT_QUERY = "INSERT INTO courses (course_name, course_description) VALUES(?,?) "
+            + "ON CONFLICT (course_name) DO UPDATE SET course_description = EXCLUDED.course_description;";
+    private static final String MERGE_QUERY = "MERGE INTO courses (course_name, course_description) "
+            + "KEY(course_name) VALUES(?,?);";
+    private static final String COURSE_COLUMNS = "courses.course_id, courses.course_name, courses.course_description";
+    private static final String FIND_BY_ID_QUERY = "SELECT " + COURSE_COLUMNS + " FROM courses WHERE course_id = ?;";
+    private static final String FIND_ALL_BY_ID_QUERY = "SELECT " + COURSE_COLUMNS
+            + " FROM courses WHERE course_id = ANY(?);";
+    private static final String FIND_ALL_QUERY = "SELECT " + COURSE_COLUMNS + " FROM courses ORDER BY course_id;";
+    private static final String FIND_ALL_PAGINATION_QUERY = "SELECT " + COURSE_COLUMNS
+            + " FROM courses ORDER BY course_id LIMIT ? OFFSET ?;";
+    private static final String FIND_ALL_AFTER_QUERY = "SELECT " + COURSE_COLUMNS
+            + " FROM courses WHERE course_id > ? ORDER BY course_id LIMIT ?;";
     private static final String DELETE_BY_ID_QUERY = "DELETE FROM courses WHERE course_id = ?;";
-    private static final String GET_BY_NAME_QUERY = "SELECT  * FROM courses WHERE course_name =?";
-    private static final String GET_BY_STUDENT_ID_QUERY = "SELECT course_name FROM students_to_courses "
-            + "INNER JOIN courses ON students_to_courses.course_id = courses.course_id WHERE student_id = ?";
+    private static final String DELETE_ALL_BY_ID_QUERY = "DELETE FROM courses WHERE course_id = ANY(?);";
+    private static final String GET_BY_NAME_QUERY = "SELECT " + COURSE_COLUMNS + " FROM courses WHERE course_name = ?;";
+    private static final String FIND_ALL_BY_NAME_QUERY = "SELECT " + COURSE_COLUMNS
+            + " FROM courses WHERE course_name = ANY(?);";
+    private static final String GET_BY_STUDENT_ID_QUERY = "SELECT " + COURSE_COLUMNS + " FROM students_to_courses "
+            + "INNER JOIN courses ON students_to_courses.course_id = courses.course_id WHERE student_id = ? "
+            + "ORDER BY courses.course_id;";
+    private static final String GET_BY_STUDENT_IDS_QUERY = "SELECT students_to_courses.student_id, "
+            + COURSE_COLUMNS + " "
+            + "FROM students_to_courses INNER JOIN courses ON students_to_courses.course_id = courses.course_id "
+            + "WHERE students_to_courses.student_id = ANY(?) ORDER BY students_to_courses.student_id, courses.course_id;";
+    private static final String FIND_ALL_SUMMARIES_QUERY = "SELECT course_id, course_name FROM courses "
+            + "ORDER BY course_id;";
+    private static final String COURSE_ID = "course_id";
 
     public CourseDaoImpl(Connector connector) {
-        super(connector, SAVE_QUERY, FIND_BY_ID_QUERY, FIND_ALL_QUERY, FIND_ALL_PAGINATION_QUERY, DELETE_BY_ID_QUERY);
+        super(connector, SAVE_QUERY, FIND_BY_ID_QUERY, FIND_ALL_BY_ID_QUERY, FIND_ALL_QUERY, FIND_ALL_PAGINATION_QUERY,
+                FIND_ALL_AFTER_QUERY, DELETE_BY_ID_QUERY, DELETE_ALL_BY_ID_QUERY);
     }
 
     @Override
@@ -36,12 +63,59 @@ public class CourseDaoImpl extends AbstractCrudImpl<Course> implements CourseDao
     @Override
     protected Course createEntityFromResultSet(ResultSet resultSet) throws SQLException {
         return Course.builder()
-                .withId(resultSet.getInt("course_id"))
+                .withId(resultSet.getInt(COURSE_ID))
                 .withName(resultSet.getString("course_name"))
                 .withDescription(resultSet.getString("course_description"))
                 .build();
     }
 
+    @Override
+    protected Integer getEntityId(Course course) {
+        return course.getCourseId();
+    }
+
+    @Override
+    protected Course createEntityWithId(Course course, Integer id) {
+        return Course.builder()
+                .withId(id)
+                .withName(course.getName())
+                .withDescription(course.getDescription())
+                .build();
+    }
+
+    @Override
+    protected String getUpsertQuery(boolean postgreSql) {
+        return postgreSql ? UPSERT_QUERY : MERGE_QUERY;
+    }
+
+    @Override
+    protected String getFindAllByNaturalKeyQuery() {
+        return FIND_ALL_BY_NAME_QUERY;
+    }
+
+    @Override
+    protected String getNaturalKey(Course course) {
+        return course.getName();
+    }
+
+    @Override
+    public List<EntitySummary> findAllSummaries() {
+        try (Connection connection = connector.getConnection();
+                PreparedStatement statement = connection.prepareStatement(FIND_ALL_SUMMARIES_QUERY);
+                ResultSet resultSet = statement.executeQuery()) {
+            List<EntitySummary> summaries = new ArrayList<>();
+            while (resultSet.next()) {
+                summaries.add(EntitySummary.builder()
+                        .withId(resultSet.getInt(COURSE_ID))
+                        .withName(resultSet.getString("course_name"))
+                        .build());
+            }
+            return summaries;
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Can't return summaries of all courses", e);
+        }
+    }
+
     @Override
     public Optional<Course> findByName(String courseName) {
         try (Connection connection = connector.getConnection();
@@ -63,14 +137,36 @@ public class CourseDaoImpl extends AbstractCrudImpl<Course> implements CourseDao
             try (ResultSet resultSet = statement.executeQuery();) {
                 List<Course> courses = new ArrayList<>();
                 while (resultSet.next()) {
-                    Optional<Course> value = findByName(resultSet.getString("course_name"));
-                    Course course = value.get();
-                    courses.add(course);
+                    courses.add(createEntityFromResultSet(resultSet));
                 }
                 return courses;
             }
-        } catch (SQLException e) {
+        } catch (SQLException | NullPointerException e) {
             throw new DaoException("Can't return everything courses by student with id = " + studentId, e);
         }
     }
+
+    @Override
+    public Map<Integer, List<Course>> findAllByStudentIds(Collection<Integer> studentIds) {
+        try (Connection connection = connector.getConnection()) {
+            Map<Integer, List<Course>> studentCourses = new LinkedHashMap<>();
+            studentIds.forEach(studentId -> studentCourses.put(studentId, new ArrayList<>()));
+            Map<Integer, Course> courses = new HashMap<>();
+            executeForIds(connection, GET_BY_STUDENT_IDS_QUERY, studentIds, statement -> {
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        Course course = courses.get(resultSet.getInt(COURSE_ID));
+                        if (course == null) {
+                            course = createEntityFromResultSet(resultSet);
+                            courses.put(course.getCourseId(), course);
+                        }
+                        studentCourses.get(resultSet.getInt("student_id")).add(course);
+                    }
+                }
+            });
+            return studentCourses;
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Can't return everything courses by students with id in " + studentIds, e);
+        }
+    }
 }
@@ -5,26 +5,42 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import university.dao.Connector;
 import university.dao.GroupDao;
 import university.entity.Group;
 import university.exceptions.DaoException;
 
-public class GroupDaoImpl extends AbstractCrudImpl<Group> implements GroupDao {
+public class GroupDaoImpl extends AbstractNaturalKeyCrudImpl<Group> implements GroupDao {
 
     private static final String SAVE_QUERY = "INSERT INTO groups (group_name) VALUES(?);";
-    private static final String FIND_BY_ID_QUERY = "SELECT  * FROM groups WHERE group_id = ?;";
-    private static final String FIND_ALL_QUERY = "SELECT * FROM groups ORDER BY group_id;";
-    private static final String FIND_ALL_PAGINATION_QUERY = "SELECT * FROM groups ORDER BY group_id LIMIT ? OFFSET ?;";
+    private static final String UPSERT_QUERY = "INSERT INTO groups (group_name) VALUES(?) "
+            + "ON CONFLICT (group_name) DO UPDATE SET group_name = EXCLUDED.group_name;";
+    private static final String MERGE_QUERY = "MERGE INTO groups (group_name) KEY(group_name) VALUES(?);";
+    private static final String GROUP_COLUMNS = "groups.group_id, groups.group_name";
+    private static final String FIND_BY_ID_QUERY = "SELECT " + GROUP_COLUMNS + " FROM groups WHERE group_id = ?;";
+    private static final String FIND_ALL_BY_ID_QUERY = "SELECT " + GROUP_COLUMNS
+            + " FROM groups WHERE group_id = ANY(?);";
+    private static final String FIND_ALL_QUERY = "SELECT " + GROUP_COLUMNS + " FROM groups ORDER BY group_id;";
+    private static final String FIND_ALL_PAGINATION_QUERY = "SELECT " + GROUP_COLUMNS
+            + " FROM groups ORDER BY group_id LIMIT ? OFFSET ?;";
+    private static final String FIND_ALL_AFTER_QUERY = "SELECT " + GROUP_COLUMNS
+            + " FROM groups WHERE group_id > ? ORDER BY group_id LIMIT ?;";
+    private static final String FIND_ALL_BY_NAME_QUERY = "SELECT " + GROUP_COLUMNS
+            + " FROM groups WHERE group_name = ANY(?);";
     private static final String DELETE_BY_ID_QUERY = "DELETE FROM groups WHERE group_id = ?;";
-    private static final String FIND_GROUPS_BY_SIZE_QUERY = "SELECT COUNT(*)<=? AS group_size, group_id FROM students "
-            + "WHERE group_id >=1 GROUP BY group_id;";
+    private static final String DELETE_ALL_BY_ID_QUERY = "DELETE FROM groups WHERE group_id = ANY(?);";
+    private static final String FIND_GROUPS_BY_SIZE_QUERY = "SELECT " + GROUP_COLUMNS + ", "
+            + "COUNT(students.student_id) AS students_count FROM groups "
+            + "LEFT JOIN students ON students.group_id = groups.group_id GROUP BY groups.group_id, groups.group_name "
+            + "HAVING COUNT(students.student_id) <= ? ORDER BY groups.group_id;";
     private static final String GROUP_ID = "group_id";
 
     public GroupDaoImpl(Connector connector) {
-        super(connector, SAVE_QUERY, FIND_BY_ID_QUERY, FIND_ALL_QUERY, FIND_ALL_PAGINATION_QUERY, DELETE_BY_ID_QUERY);
+        super(connector, SAVE_QUERY, FIND_BY_ID_QUERY, FIND_ALL_BY_ID_QUERY, FIND_ALL_QUERY, FIND_ALL_PAGINATION_QUERY,
+                FIND_ALL_AFTER_QUERY, DELETE_BY_ID_QUERY, DELETE_ALL_BY_ID_QUERY);
     }
 
     @Override
@@ -40,19 +56,48 @@ public class GroupDaoImpl extends AbstractCrudImpl<Group> implements GroupDao {
                 .build();
     }
 
+    @Override
+    protected Integer getEntityId(Group group) {
+        return group.getGroupId();
+    }
+
+    @Override
+    protected Group createEntityWithId(Group group, Integer id) {
+        return Group.builder()
+                .withId(id)
+                .withName(group.getName())
+                .build();
+    }
+
+    @Override
+    protected String getUpsertQuery(boolean postgreSql) {
+        return postgreSql ? UPSERT_QUERY : MERGE_QUERY;
+    }
+
+    @Override
+    protected String getFindAllByNaturalKeyQuery() {
+        return FIND_ALL_BY_NAME_QUERY;
+    }
+
+    @Override
+    protected String getNaturalKey(Group group) {
+        return group.getName();
+    }
+
     @Override
     public List<Group> findAllBySizeEqualsOrLess(Integer groupSize) {
+        return new ArrayList<>(countStudentsBySizeEqualsOrLess(groupSize).keySet());
+    }
+
+    @Override
+    public Map<Group, Integer> countStudentsBySizeEqualsOrLess(Integer groupSize) {
         try (Connection connection = connector.getConnection();
                 PreparedStatement statement = connection.prepareStatement(FIND_GROUPS_BY_SIZE_QUERY)) {
             statement.setInt(1, groupSize);
             try (ResultSet resultSet = statement.executeQuery()) {
-                List<Group> groups = new ArrayList<>();
+                Map<Group, Integer> groups = new LinkedHashMap<>();
                 while (resultSet.next()) {
-                    if (resultSet.getBoolean("group_size")) {
-                        Optional<Group> value = findById(resultSet.getInt(GROUP_ID));
-                        Group group = value.get();
-                        groups.add(group);
-                    }
+                    groups.put(createEntityFromResultSet(resultSet), resultSet.getInt("students_count"));
                 }
                 return groups;
             }
@@ -0,0 +1,196 @@
+package university.dao.impl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+final class StatementCache {
+
+    private static final Logger LOGGER = Logger.getLogger(StatementCache.class.getName());
+    private static final Set<String> RESETTABLE_SETTERS = new HashSet<>(Arrays.asList("setFetchSize",
+            "setFetchDirection", "setMaxRows", "setLargeMaxRows", "setMaxFieldSize", "setQueryTimeout"));
+    private static final Set<String> UNRESETTABLE_SETTERS = new HashSet<>(Arrays.asList("setCursorName",
+            "setEscapeProcessing", "setPoolable", "closeOnCompletion"));
+
+    private final Connection connection;
+    private final int maxSize;
+    private final AtomicLong hitCount;
+    private final AtomicLong missCount;
+    private final LinkedHashMap<List<Object>, CachedStatement> statements;
+
+    StatementCache(Connection connection, int maxSize, AtomicLong hitCount, AtomicLong missCount) {
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    PreparedStatement prepare(Connection owner, String sql, int autoGeneratedKeys) throws SQLException {
+        List<Object> key = Arrays.asList(sql, autoGeneratedKeys);
+        CachedStatement cached = statements.remove(key);
+        if (cached == null || cached.statement.isClosed()) {
+            missCount.incrementAndGet();
+            cached = new CachedStatement(connection.prepareStatement(sql, autoGeneratedKeys));
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class }, new StatementHandle(owner, key, cached));
+    }
+
+    int size() {
+        return statements.size();
+    }
+
+    void close() {
+        for (CachedStatement cached : statements.values()) {
+            closeQuietly(cached.statement);
+        }
+        statements.clear();
+    }
+
+    // the next borrower has to get the statement as it was prepared, settings it can't restore are not cached
+    private void recycle(List<Object> key, CachedStatement cached, StatementHandle handle) {
+        PreparedStatement statement = cached.statement;
+        try {
+            for (ResultSet resultSet : handle.resultSets) {
+                resultSet.close();
+            }
+            if (statement.isClosed()) {
+                return;
+            }
+            if (handle.unresettable) {
+                closeQuietly(statement);
+                return;
+            }
+            statement.clearParameters();
+            statement.clearBatch();
+            if (handle.settingsChanged) {
+                cached.resetSettings();
+            }
+            CachedStatement previous = statements.put(key, cached);
+            if (previous != null) {
+                closeQuietly(previous.statement);
+            }
+            evictEldest();
+        } catch (SQLException e) {
+            closeQuietly(statement);
+        }
+    }
+
+    private void evictEldest() {
+        Iterator<CachedStatement> iterator = statements.values().iterator();
+        while (statements.size() > maxSize && iterator.hasNext()) {
+            CachedStatement eldest = iterator.next();
+            iterator.remove();
+            closeQuietly(eldest.statement);
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Unable to close cached statement " + statement, e);
+        }
+    }
+
+    private static final class CachedStatement {
+
+        private final PreparedStatement statement;
+        private final int fetchSize;
+        private final int fetchDirection;
+        private final int maxRows;
+        private final int maxFieldSize;
+        private final int queryTimeout;
+
+        private CachedStatement(PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            this.fetchSize = statement.getFetchSize();
+            this.fetchDirection = statement.getFetchDirection();
+            this.maxRows = statement.getMaxRows();
+            this.maxFieldSize = statement.getMaxFieldSize();
+            this.queryTimeout = statement.getQueryTimeout();
+        }
+
+        // max rows goes first, drivers reject a fetch size above the max rows still set
+        private void resetSettings() throws SQLException {
+            statement.setMaxRows(maxRows);
+            statement.setFetchSize(fetchSize);
+            statement.setFetchDirection(fetchDirection);
+            statement.setMaxFieldSize(maxFieldSize);
+            statement.setQueryTimeout(queryTimeout);
+        }
+    }
+
+    private final class StatementHandle implements InvocationHandler {
+
+        private final Connection owner;
+        private final List<Object> key;
+        private final CachedStatement cached;
+        private final List<ResultSet> resultSets = new ArrayList<>();
+        private boolean closed;
+        private boolean settingsChanged;
+        private boolean unresettable;
+
+        private StatementHandle(Connection owner, List<Object> key, CachedStatement cached) {
+            this.owner = owner;
+            this.key = key;
+            this.cached = cached;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            PreparedStatement statement = cached.statement;
+            switch (method.getName()) {
+            case "close":
+                if (!closed) {
+                    closed = true;
+                    recycle(key, cached, this);
+                }
+                return null;
+            case "isClosed":
+                return closed || statement.isClosed();
+            case "getConnection":
+                return owner;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "Cached " + statement;
+            default:
+                if (closed || owner.isClosed()) {
+                    throw new SQLException("Statement is closed");
+                }
+                settingsChanged |= RESETTABLE_SETTERS.contains(method.getName());
+                unresettable |= UNRESETTABLE_SETTERS.contains(method.getName());
+                try {
+                    Object result = method.invoke(statement, args);
+                    if (result instanceof ResultSet) {
+                        resultSets.add((ResultSet) result);
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+    }
+}
@@ -5,27 +5,66 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 import university.dao.Connector;
 import university.dao.StudentDao;
+import university.entity.Course;
+import university.entity.EntitySummary;
 import university.entity.Student;
 import university.exceptions.DaoException;
 
 public class StudentDaoImpl extends AbstractCrudImpl<Student> implements StudentDao {
 
     private static final String SAVE_QUERY = "INSERT INTO students (group_id, first_name, last_name) VALUES(?,?,?);";
-    private static final String FIND_BY_ID_QUERY = "SELECT  * FROM students WHERE student_id =  ?;";
-    private static final String FIND_ALL_QUERY = "SELECT * FROM students ORDER BY student_id;";
-    private static final String FIND_ALL_PAGINATION_QUERY = "SELECT * FROM students ORDER BY student_id LIMIT ? OFFSET ?;";
+    private static final String STUDENT_COLUMNS = "students.student_id, students.group_id, students.first_name, "
+            + "students.last_name";
+    private static final String FIND_BY_ID_QUERY = "SELECT " + STUDENT_COLUMNS + " FROM students WHERE student_id = ?;";
+    private static final String FIND_ALL_BY_ID_QUERY = "SELECT " + STUDENT_COLUMNS
+            + " FROM students WHERE student_id = ANY(?);";
+    private static final String FIND_ALL_QUERY = "SELECT " + STUDENT_COLUMNS + " FROM students ORDER BY student_id;";
+    private static final String FIND_ALL_PAGINATION_QUERY = "SELECT " + STUDENT_COLUMNS
+            + " FROM students ORDER BY student_id LIMIT ? OFFSET ?;";
+    private static final String FIND_ALL_AFTER_QUERY = "SELECT " + STUDENT_COLUMNS
+            + " FROM students WHERE student_id > ? ORDER BY student_id LIMIT ?;";
     private static final String DELETE_BY_ID_QUERY = "DELETE FROM students WHERE student_id = ?;";
-    private static final String FIND_ALL_BY_COURSE_QUERY = "SELECT * FROM students "
+    private static final String DELETE_ALL_BY_ID_QUERY = "DELETE FROM students WHERE student_id = ANY(?);";
+    private static final String FIND_ALL_BY_COURSE_QUERY = "SELECT " + STUDENT_COLUMNS + " FROM students "
             + "INNER JOIN students_to_courses ON students_to_courses.student_id = students.student_id "
             + "INNER JOIN courses ON students_to_courses.course_id = courses.course_id WHERE course_name = ?;";
+    private static final String WITH_COURSES_QUERY = "SELECT " + STUDENT_COLUMNS + ", "
+            + "courses.course_id, courses.course_name, courses.course_description "
+            + "FROM %s students "
+            + "LEFT JOIN students_to_courses ON students_to_courses.student_id = students.student_id "
+            + "LEFT JOIN courses ON courses.course_id = students_to_courses.course_id "
+            + "%sORDER BY students.student_id, courses.course_id;";
+    private static final String FIND_BY_ID_WITH_COURSES_QUERY = String.format(WITH_COURSES_QUERY, "students",
+            "WHERE students.student_id = ? ");
+    private static final String FIND_ALL_WITH_COURSES_QUERY = String.format(WITH_COURSES_QUERY,
+            "(SELECT " + STUDENT_COLUMNS + " FROM students WHERE student_id > ? ORDER BY student_id LIMIT ?)", "");
+    private static final String FIND_ALL_SUMMARIES_QUERY = "SELECT student_id, first_name, last_name FROM students "
+            + "ORDER BY student_id;";
+    private static final String STUDENT_ID = "student_id";
+    private static final String COURSE_ID = "course_id";
+    private static final int NO_ID = 0;
     private static final String DELETE_FROM_COURSE_QUERY = "DELETE FROM students_to_courses WHERE student_id = ? AND course_id = ?;";
+    private static final String DELETE_FROM_COURSES_QUERY = "DELETE FROM students_to_courses WHERE student_id = ? AND course_id = ANY(?);";
+    private static final String REMOVE_ALL_FROM_COURSE_QUERY = "DELETE FROM students_to_courses WHERE course_id = ?;";
     private static final String SAVE_STUDENT_TO_COURSES_QUERY = "INSERT INTO students_to_courses (student_id, course_id) VALUES(?,?);";
+    private static final String SAVE_ENROLMENT_QUERY = "INSERT INTO students_to_courses (student_id, course_id) VALUES(?,?) "
+            + "ON CONFLICT DO NOTHING;";
+    private static final String MERGE_ENROLMENT_QUERY = "MERGE INTO students_to_courses (student_id, course_id) "
+            + "KEY(student_id, course_id) VALUES(?,?);";
 
     public StudentDaoImpl(Connector connector) {
-        super(connector, SAVE_QUERY, FIND_BY_ID_QUERY, FIND_ALL_QUERY, FIND_ALL_PAGINATION_QUERY, DELETE_BY_ID_QUERY);
+        super(connector, SAVE_QUERY, FIND_BY_ID_QUERY, FIND_ALL_BY_ID_QUERY, FIND_ALL_QUERY, FIND_ALL_PAGINATION_QUERY,
+                FIND_ALL_AFTER_QUERY, DELETE_BY_ID_QUERY, DELETE_ALL_BY_ID_QUERY);
     }
 
     @Override
@@ -45,6 +84,22 @@ public class StudentDaoImpl extends AbstractCrudImpl<Student> implements Student
                 .build();
     }
 
+    @Override
+    protected Integer getEntityId(Student student) {
+        return student.getStudentId();
+    }
+
+    @Override
+    protected Student createEntityWithId(Student student, Integer id) {
+        return Student.builder()
+                .withId(id)
+                .withGroupId(student.getGroupId())
+                .withFirstName(student.getFirstName())
+                .withLastName(student.getLastName())
+                .withCourses(student.getCourses())
+                .build();
+    }
+
     @Override
     public List<Student> findAllByCourse(String courseName) {
         try (Connection connection = connector.getConnection();
@@ -62,6 +117,41 @@ public class StudentDaoImpl extends AbstractCrudImpl<Student> implements Student
         }
     }
 
+    @Override
+    public Stream<EntitySummary> streamSummaries() {
+        return streamQuery(FIND_ALL_SUMMARIES_QUERY, resultSet -> EntitySummary.builder()
+                .withId(resultSet.getInt(STUDENT_ID))
+                .withName(resultSet.getString("first_name") + " " + resultSet.getString("last_name"))
+                .build());
+    }
+
+    @Override
+    public Optional<Student> findByIdWithCourses(Integer id) {
+        try (Connection connection = connector.getConnection();
+                PreparedStatement statement = connection.prepareStatement(FIND_BY_ID_WITH_COURSES_QUERY)) {
+            statement.setInt(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return createStudentsWithCourses(resultSet).stream().findFirst();
+            }
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Can't return with courses by id " + id, e);
+        }
+    }
+
+    @Override
+    public List<Student> findAllWithCourses(Integer lastId, int limit) {
+        try (Connection connection = connector.getConnection();
+                PreparedStatement statement = connection.prepareStatement(FIND_ALL_WITH_COURSES_QUERY)) {
+            statement.setInt(1, lastId == null ? NO_ID : lastId);
+            statement.setInt(2, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return createStudentsWithCourses(resultSet);
+            }
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Can't return " + limit + " students with courses after id " + lastId, e);
+        }
+    }
+
     @Override
     public void deleteFromCourse(int studentId, int courseId) {
         try (Connection connection = connector.getConnection();
@@ -74,6 +164,33 @@ public class StudentDaoImpl extends AbstractCrudImpl<Student> implements Student
         }
     }
 
+    @Override
+    public void deleteFromCourses(int studentId, Collection<Integer> coursesId) {
+        if (coursesId == null) {
+            throw new DaoException("Courses to remove student by id " + studentId + " from can't be null", null);
+        }
+        if (coursesId.isEmpty()) {
+            return;
+        }
+        try (Connection connection = connector.getConnection()) {
+            executeForIds(connection, DELETE_FROM_COURSES_QUERY, 1, statement -> statement.setInt(1, studentId),
+                    coursesId, PreparedStatement::executeUpdate);
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Can't remove student by id " + studentId + " from courses " + coursesId, e);
+        }
+    }
+
+    @Override
+    public void removeAllFromCourse(int courseId) {
+        try (Connection connection = connector.getConnection();
+                PreparedStatement statement = connection.prepareStatement(REMOVE_ALL_FROM_COURSE_QUERY)) {
+            statement.setInt(1, courseId);
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new DaoException("Can't remove all students from course by id " + courseId, e);
+        }
+    }
+
     @Override
     public void insertStudentToCourses(Student student, List<Integer> coursesId) {
         try (Connection connection = connector.getConnection();
@@ -87,6 +204,74 @@ public class StudentDaoImpl extends AbstractCrudImpl<Student> implements Student
         } catch (SQLException e) {
             throw new DaoException("Can't insert to course student by id " + student.getStudentId(), e);
         }
+    }
 
+    @Override
+    public void insertEnrolments(Map<Integer, ? extends Collection<Integer>> coursesIdByStudentId) {
+        if (coursesIdByStudentId == null) {
+            throw new DaoException("Enrolments to insert can't be null", null);
+        }
+        if (coursesIdByStudentId.isEmpty()) {
+            return;
+        }
+        try (Connection connection = connector.getConnection()) {
+            String query = isPostgreSql(connection) ? SAVE_ENROLMENT_QUERY : MERGE_ENROLMENT_QUERY;
+            executeInTransaction(connection, transactional -> {
+                try (PreparedStatement statement = transactional.prepareStatement(query)) {
+                    int batchCount = 0;
+                    for (Map.Entry<Integer, ? extends Collection<Integer>> enrolment : coursesIdByStudentId.entrySet()) {
+                        for (Integer courseId : enrolment.getValue()) {
+                            statement.setInt(1, enrolment.getKey());
+                            statement.setInt(2, courseId);
+                            statement.addBatch();
+                            if (++batchCount == getBatchSize()) {
+                                statement.executeBatch();
+                                batchCount = 0;
+                            }
+                        }
+                    }
+                    if (batchCount > 0) {
+                        statement.executeBatch();
+                    }
+                    return null;
+                }
+            });
+        } catch (SQLException | NullPointerException e) {
+            throw new DaoException("Can't insert enrolments of " + coursesIdByStudentId.size() + " students", e);
+        }
+    }
+
+    private List<Student> createStudentsWithCourses(ResultSet resultSet) throws SQLException {
+        List<Student> students = new ArrayList<>();
+        Map<Integer, Course> courses = new HashMap<>();
+        Student student = null;
+        Set<Course> studentCourses = null;
+        while (resultSet.next()) {
+            if (student == null || student.getStudentId() != resultSet.getInt(STUDENT_ID)) {
+                studentCourses = new LinkedHashSet<>();
+                student = Student.builder()
+                        .withId(resultSet.getInt(STUDENT_ID))
+                        .withGroupId(resultSet.getInt("group_id"))
+                        .withFirstName(resultSet.getString("first_name"))
+                        .withLastName(resultSet.getString("last_name"))
+                        .withCourses(studentCourses)
+                        .build();
+                students.add(student);
+            }
+            int courseId = resultSet.getInt(COURSE_ID);
+            if (!resultSet.wasNull()) {
+                Course course = courses.get(courseId);
+                if (course == null) {
+                    course = Course.builder()
+                            .withId(courseId)
+                            .withName(resultSet.getString("course_name"))
+                            .withDescription(resultSet.getString("course_description"))
+                            .build();
+                    courses.put(courseId, course);
+                }
+                studentCourses.add(course);
+            }
+        }
+        return students;
     }
 }
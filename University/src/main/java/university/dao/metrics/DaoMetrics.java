@@ -0,0 +1,141 @@
+package university.dao.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToLongFunction;
+import java.util.regex.Pattern;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+public class DaoMetrics implements MetricsRegistry, DaoMetricsMXBean {
+
+    private static final String OBJECT_NAME = "university.dao:type=DaoMetrics";
+    private static final double P99 = 0.99;
+    private static final int MAX_QUERIES = 256;
+    static final String OTHER_QUERIES = "(other queries)";
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bIN\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ConcurrentMap<String, OperationMetrics> queries = new ConcurrentHashMap<>();
+    private volatile OperationMetrics acquire = new OperationMetrics();
+
+    @Override
+    public void recordAcquire(long nanos, boolean failed) {
+        acquire.record(nanos, failed);
+    }
+
+    @Override
+    public void recordQuery(String sql, long nanos, boolean failed) {
+        metricsFor(sql).record(nanos, failed);
+    }
+
+    @Override
+    public void recordRows(String sql, long rows) {
+        metricsFor(sql).addRows(rows);
+    }
+
+    public OperationMetrics getAcquireMetrics() {
+        return acquire;
+    }
+
+    public OperationMetrics getQueryMetrics(String sql) {
+        return queries.get(normalize(sql));
+    }
+
+    public void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register DAO metrics as " + OBJECT_NAME, e);
+        }
+    }
+
+    @Override
+    public long getAcquireCount() {
+        return acquire.getCount();
+    }
+
+    @Override
+    public long getAcquireErrorCount() {
+        return acquire.getErrorCount();
+    }
+
+    @Override
+    public long getAcquireP99Micros() {
+        return acquire.getLatency().getPercentileMicros(P99);
+    }
+
+    @Override
+    public long getQueryCount() {
+        return sum(OperationMetrics::getCount);
+    }
+
+    @Override
+    public long getQueryErrorCount() {
+        return sum(OperationMetrics::getErrorCount);
+    }
+
+    @Override
+    public long getRowCount() {
+        return sum(OperationMetrics::getRowCount);
+    }
+
+    @Override
+    public Map<String, Long> getQueryP99Micros() {
+        return bySql(metrics -> metrics.getLatency().getPercentileMicros(P99));
+    }
+
+    @Override
+    public Map<String, Long> getQueryErrorCounts() {
+        return bySql(OperationMetrics::getErrorCount);
+    }
+
+    @Override
+    public void reset() {
+        acquire = new OperationMetrics();
+        queries.clear();
+    }
+
+    /**
+     * Reduces a statement to its template: literals become placeholders and an IN list of any length becomes
+     * {@code IN (?)}, so chunked lookups and script statements share one entry per statement shape.
+     */
+    static String normalize(String sql) {
+        String template = STRING_LITERAL.matcher(sql).replaceAll("?");
+        template = NUMBER_LITERAL.matcher(template).replaceAll("?");
+        template = IN_LIST.matcher(template).replaceAll("IN (?)");
+        return WHITESPACE.matcher(template).replaceAll(" ").trim();
+    }
+
+    // new statements past the cap share one overflow entry, so ad hoc SQL can't grow the map without bound
+    private OperationMetrics metricsFor(String sql) {
+        String key = normalize(sql);
+        OperationMetrics metrics = queries.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (queries.size() >= MAX_QUERIES - 1) {
+            key = OTHER_QUERIES;
+        }
+        return queries.computeIfAbsent(key, template -> new OperationMetrics());
+    }
+
+    private long sum(ToLongFunction<OperationMetrics> value) {
+        return queries.values().stream().mapToLong(value).sum();
+    }
+
+    private Map<String, Long> bySql(ToLongFunction<OperationMetrics> value) {
+        Map<String, Long> values = new TreeMap<>();
+        queries.forEach((sql, metrics) -> {
+            if (metrics.getCount() > 0) {
+                values.put(sql, value.applyAsLong(metrics));
+            }
+        });
+        return values;
+    }
+}
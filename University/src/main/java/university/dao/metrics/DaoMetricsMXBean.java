@@ -0,0 +1,24 @@
+package university.dao.metrics;
+
+import java.util.Map;
+
+public interface DaoMetricsMXBean {
+
+    long getAcquireCount();
+
+    long getAcquireErrorCount();
+
+    long getAcquireP99Micros();
+
+    long getQueryCount();
+
+    long getQueryErrorCount();
+
+    long getRowCount();
+
+    Map<String, Long> getQueryP99Micros();
+
+    Map<String, Long> getQueryErrorCounts();
+
+    void reset();
+}
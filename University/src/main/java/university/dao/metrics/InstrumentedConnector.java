@@ -0,0 +1,217 @@
+package university.dao.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import university.dao.Connector;
+
+public class InstrumentedConnector implements Connector {
+
+    private static final Logger LOGGER = Logger.getLogger(InstrumentedConnector.class.getName());
+    private static final String PROPERTY_ENABLED = "metrics.enabled";
+    private static final String PROPERTY_SLOW_QUERY_THRESHOLD = "metrics.slowQueryThreshold";
+    private static final long DEFAULT_SLOW_QUERY_THRESHOLD = 500;
+
+    private final Connector connector;
+    private final MetricsRegistry registry;
+    private final long slowQueryThresholdNanos;
+
+    public InstrumentedConnector(Connector connector, MetricsRegistry registry, String propertiesPath) {
+        this(connector, registry, readSlowQueryThreshold(propertiesPath));
+    }
+
+    public InstrumentedConnector(Connector connector, MetricsRegistry registry, long slowQueryThreshold) {
+        if (connector == null || registry == null) {
+            throw new IllegalArgumentException("Instrumented connector and metrics registry can't be null!");
+        }
+        this.connector = connector;
+        this.registry = registry;
+        this.slowQueryThresholdNanos = slowQueryThreshold < 0 ? Long.MAX_VALUE
+                : TimeUnit.MILLISECONDS.toNanos(slowQueryThreshold);
+    }
+
+    public static boolean isEnabled(String propertiesPath) {
+        ResourceBundle resources = getBundle(propertiesPath);
+        return resources.containsKey(PROPERTY_ENABLED)
+                && Boolean.parseBoolean(resources.getString(PROPERTY_ENABLED).trim());
+    }
+
+    @Override
+    public Connection getConnection() {
+        long start = System.nanoTime();
+        Connection connection;
+        try {
+            connection = connector.getConnection();
+        } catch (RuntimeException e) {
+            registry.recordAcquire(System.nanoTime() - start, true);
+            throw e;
+        }
+        registry.recordAcquire(System.nanoTime() - start, false);
+        return proxy(Connection.class, new ConnectionHandle(connection));
+    }
+
+    private static long readSlowQueryThreshold(String propertiesPath) {
+        ResourceBundle resources = getBundle(propertiesPath);
+        return resources.containsKey(PROPERTY_SLOW_QUERY_THRESHOLD)
+                ? Long.parseLong(resources.getString(PROPERTY_SLOW_QUERY_THRESHOLD).trim())
+                : DEFAULT_SLOW_QUERY_THRESHOLD;
+    }
+
+    private static ResourceBundle getBundle(String propertiesPath) {
+        try {
+            return ResourceBundle.getBundle(propertiesPath);
+        } catch (MissingResourceException | NullPointerException e) {
+            throw new IllegalArgumentException("This properties path not exists!" + propertiesPath, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void recordQuery(String sql, long nanos, boolean failed) {
+        registry.recordQuery(sql, nanos, failed);
+        if (nanos > slowQueryThresholdNanos) {
+            LOGGER.warning(() -> "Slow query took " + TimeUnit.NANOSECONDS.toMillis(nanos) + "ms: " + sql);
+        }
+    }
+
+    private final class ConnectionHandle implements InvocationHandler {
+
+        private final Connection connection;
+
+        private ConnectionHandle(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedConnector.invoke(connection, method, args);
+            if (result instanceof PreparedStatement && "prepareStatement".equals(method.getName())) {
+                return InstrumentedConnector.proxy(PreparedStatement.class,
+                        new StatementHandle((Statement) result, (String) args[0]));
+            }
+            if (result instanceof Statement && "createStatement".equals(method.getName())) {
+                return InstrumentedConnector.proxy(Statement.class, new StatementHandle((Statement) result, null));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandle implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private String batchSql;
+
+        private StatementHandle(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("addBatch".equals(name) && args != null && batchSql == null) {
+                batchSql = (String) args[0];
+            } else if ("clearBatch".equals(name)) {
+                batchSql = null;
+            }
+            if (!name.startsWith("execute")) {
+                return InstrumentedConnector.invoke(statement, method, args);
+            }
+            String sql = sqlOf(name, args);
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = InstrumentedConnector.invoke(statement, method, args);
+            } catch (Throwable e) {
+                recordQuery(sql, System.nanoTime() - start, true);
+                throw e;
+            }
+            recordQuery(sql, System.nanoTime() - start, false);
+            return recordRows(sql, result);
+        }
+
+        private String sqlOf(String methodName, Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                return (String) args[0];
+            }
+            if ("executeBatch".equals(methodName) && batchSql != null) {
+                String sql = batchSql;
+                batchSql = null;
+                return sql;
+            }
+            return String.valueOf(preparedSql);
+        }
+
+        private Object recordRows(String sql, Object result) {
+            if (result instanceof ResultSet) {
+                return InstrumentedConnector.proxy(ResultSet.class, new ResultSetHandle((ResultSet) result, sql));
+            }
+            if (result instanceof Integer || result instanceof Long) {
+                registry.recordRows(sql, Math.max(0, ((Number) result).longValue()));
+            } else if (result instanceof int[]) {
+                long rows = 0;
+                for (int count : (int[]) result) {
+                    rows += Math.max(0, count);
+                }
+                registry.recordRows(sql, rows);
+            }
+            return result;
+        }
+    }
+
+    private final class ResultSetHandle implements InvocationHandler {
+
+        private final ResultSet resultSet;
+        private final String sql;
+        private long rows;
+        private boolean recorded;
+
+        private ResultSetHandle(ResultSet resultSet, String sql) {
+            this.resultSet = resultSet;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedConnector.invoke(resultSet, method, args);
+            if ("next".equals(method.getName())) {
+                if (Boolean.TRUE.equals(result)) {
+                    rows++;
+                } else {
+                    record();
+                }
+            } else if ("close".equals(method.getName())) {
+                record();
+            }
+            return result;
+        }
+
+        private void record() {
+            if (!recorded) {
+                recorded = true;
+                registry.recordRows(sql, rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package university.dao.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Long::max, 0);
+
+    public void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(micros));
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulate(micros);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMeanMicros() {
+        long total = count.sum();
+        return total == 0 ? 0 : totalMicros.sum() / total;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    public long getPercentileMicros(double percentile) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile must be in (0, 1]!");
+        }
+        long rank = (long) Math.ceil(percentile * getCount());
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS && rank > 0; bucket++) {
+            seen += buckets.get(bucket);
+            if (seen >= rank) {
+                return Math.min(bucket == 0 ? 0 : (1L << bucket) - 1, getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+}
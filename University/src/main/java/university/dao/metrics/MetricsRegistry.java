@@ -0,0 +1,10 @@
+package university.dao.metrics;
+
+public interface MetricsRegistry {
+
+    void recordAcquire(long nanos, boolean failed);
+
+    void recordQuery(String sql, long nanos, boolean failed);
+
+    void recordRows(String sql, long rows);
+}
@@ -0,0 +1,37 @@
+package university.dao.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationMetrics {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder rowCount = new LongAdder();
+
+    void record(long nanos, boolean failed) {
+        latency.record(nanos);
+        if (failed) {
+            errorCount.increment();
+        }
+    }
+
+    void addRows(long rows) {
+        rowCount.add(rows);
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getCount() {
+        return latency.getCount();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    public long getRowCount() {
+        return rowCount.sum();
+    }
+}
@@ -1,23 +1,23 @@
 package university.domain;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 import university.dao.CourseDao;
 import university.dao.GroupDao;
 import university.dao.StudentDao;
+import university.dao.TransactionManager;
 import university.entity.Course;
+import university.entity.EntitySummary;
 import university.entity.Group;
 import university.entity.Student;
+import university.exceptions.EntityNotFoundException;
 import university.io.ViewProvider;
 
 public class Controller {
 
-    private final StudentDao studentDao;
-    private final CourseDao courseDao;
-    private final GroupDao groupDao;
+    private final UniversityService service;
     private final ViewProvider viewProvider;
 
     private static final String QUERY_MENU = "Hello, select a request by entering a number\n"
@@ -26,15 +26,44 @@ public class Controller {
             + "6. Remove the student from one course\n";
 
     public Controller(StudentDao studentDao, CourseDao courseDao, GroupDao groupDao, ViewProvider viewProvider) {
-        this.studentDao = studentDao;
-        this.courseDao = courseDao;
-        this.groupDao = groupDao;
+        this(studentDao, courseDao, groupDao, viewProvider, null);
+    }
+
+    public Controller(StudentDao studentDao, CourseDao courseDao, GroupDao groupDao, ViewProvider viewProvider,
+            TransactionManager transactionManager) {
+        this(studentDao, courseDao, groupDao, viewProvider, transactionManager, Runnable::run);
+    }
+
+    public Controller(StudentDao studentDao, CourseDao courseDao, GroupDao groupDao, ViewProvider viewProvider,
+            TransactionManager transactionManager, Executor executor) {
+        this(new UniversityService(studentDao, courseDao, groupDao, transactionManager, executor), viewProvider);
+    }
+
+    public Controller(UniversityService service, ViewProvider viewProvider) {
+        this.service = service;
         this.viewProvider = viewProvider;
     }
 
     public void run() {
-        viewProvider.printMessage(QUERY_MENU);
-        int inputNumber = viewProvider.readNumber();
+        try {
+            do {
+                viewProvider.printMessage(QUERY_MENU);
+                try {
+                    execute(viewProvider.readNumber());
+                } catch (NumberFormatException e) {
+                    viewProvider.printMessage("Is not right number!");
+                } catch (EntityNotFoundException e) {
+                    viewProvider.printMessage(e.getMessage());
+                }
+            } while (isRepeatRequested());
+        } catch (NoSuchElementException e) {
+            viewProvider.printMessage("Input is over, the session is finished");
+        } finally {
+            viewProvider.flush();
+        }
+    }
+
+    private void execute(int inputNumber) {
         switch (inputNumber) {
         case 1:
             findGroupsBySize();
@@ -57,13 +86,12 @@ public class Controller {
         default:
             viewProvider.printMessage("Is not right number!");
         }
-        repeatInput();
     }
 
     private void findGroupsBySize() {
         viewProvider.printMessage("Enter the number of students...");
         int maxGroupSize = viewProvider.readNumber();
-        List<Group> groups = groupDao.findAllBySizeEqualsOrLess(maxGroupSize);
+        List<Group> groups = service.findGroupsBySize(maxGroupSize);
         if (groups.isEmpty()) {
             viewProvider.printMessage("There are no groups with the same or less students");
         }
@@ -74,7 +102,7 @@ public class Controller {
         selectCourseName();
         String courseName = viewProvider.readString();
         validateCourseName(courseName);
-        List<Student> students = studentDao.findAllByCourse(courseName);
+        List<Student> students = service.findStudentsByCourse(courseName);
         if (students.isEmpty()) {
             viewProvider.printMessage("There are no students on this course yet!");
         }        
@@ -90,7 +118,7 @@ public class Controller {
                 .withFirstName(firstName)
                 .withLastName(lastName)
                 .build();
-        studentDao.save(student);
+        service.addStudent(student);
         viewProvider.printMessage("Student added successfully!");
     }
 
@@ -98,7 +126,7 @@ public class Controller {
         showStudentsList();
         int studentId = viewProvider.readNumber();
         validateStudentId(studentId);
-        studentDao.deleteById(studentId);
+        service.deleteStudent(studentId);
         viewProvider.printMessage("Student deleted successfully!");
     }
 
@@ -109,17 +137,11 @@ public class Controller {
         showStudentsList();
         int studentId = viewProvider.readNumber();
         validateStudentId(studentId);
-        Student student = studentDao.findById(studentId).get();
-        Course course = courseDao.findByName(courseName).get();
-        Set<Course> studentCourses = new HashSet<>();
-        studentCourses.add(course);
-        if (!studentDao.findAllByCourse(courseName).contains(student)) {
-            List<Integer> coursesId = new ArrayList<>();
-            studentCourses.forEach(c -> coursesId.add(c.getCourseId()));
-            studentDao.insertStudentToCourses(student, coursesId);
-            viewProvider.printMessage("Student added to course successfully!");                    
+        if (service.addStudentToCourse(studentId, courseName)) {
+            viewProvider.printMessage("Student added to course successfully!");
+        } else {
+            viewProvider.printMessage("This student already has this course!");
         }
-        viewProvider.printMessage("This student already has this course!");
     }
 
     private void removeStudentFromCourse() {
@@ -127,19 +149,18 @@ public class Controller {
         int studentId = viewProvider.readNumber();
         validateStudentId(studentId);
         viewProvider.printMessage("This student has courses: ");
-        List<Course> studentCourses = courseDao.findAllByStudentId(studentId);
+        List<Course> studentCourses = service.findCoursesByStudent(studentId);
         studentCourses.forEach(c -> viewProvider.printMessage(c.toString()));
         viewProvider.printMessage("Enter the course from which you want to remove the student...");
         String courseName = viewProvider.readString();
         validateCourseName(courseName);
-        Course course = courseDao.findByName(courseName).get();
-        studentDao.deleteFromCourse(studentId, course.getCourseId());
+        service.removeStudentFromCourse(studentId, courseName);
         viewProvider.printMessage("Student deleted from course successfully!");
     }
 
     private void selectCourseName() {
         viewProvider.printMessage("Select a course name...");
-        List<Course> courses = courseDao.findAll();
+        List<EntitySummary> courses = service.findCourses();
         courses.forEach(course -> viewProvider.printMessage(course.toString()));
         viewProvider.printMessage("Enter the name of the course...");
     }
@@ -148,29 +169,27 @@ public class Controller {
         viewProvider.printMessage("Do you want to see a list of all students? [y] - yes, [n] - no");
         String input = viewProvider.readString();
         if ("y".equals(input)) {
-            List<Student> students = studentDao.findAll();
-            students.forEach(s -> viewProvider.printMessage(s.toString()));
+            try (Stream<EntitySummary> students = service.streamStudents()) {
+                students.forEach(s -> viewProvider.printMessage(s.toString()));
+            }
         }
         viewProvider.printMessage("Enter student id...");
     }
 
     private void validateCourseName(String courseName) {
-        if (courseDao.findByName(courseName).equals(Optional.empty())) {
+        if (!service.courseExists(courseName)) {
             viewProvider.printMessage("This course is not exist!");
         }
     }
 
     private void validateStudentId(int studentId) {
-        if (studentDao.findById(studentId).equals(Optional.empty())) {
+        if (!service.studentExists(studentId)) {
             viewProvider.printMessage("This student is not exist!");
         }
     }
 
-    private void repeatInput() {
+    private boolean isRepeatRequested() {
         viewProvider.printMessage("Would you like to make another request? Input: [y] - yes, [n] - no");
-        String input = viewProvider.readString();
-        if ("y".equals(input)) {
-            run();
-        }
+        return "y".equals(viewProvider.readString());
     }
 }
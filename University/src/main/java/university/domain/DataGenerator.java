@@ -1,11 +1,25 @@
 package university.domain;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import university.entity.Course;
 import university.entity.Group;
 import university.entity.Student;
@@ -16,23 +30,41 @@ public class DataGenerator {
     private static final String HYPHEN = "-";
     private static final int ALPHABET_SIZE = 26;
     private static final int FIRST_TITLE_LETTER_ASCII = 65;
+    private static final int MAX_NUMBER_GROUPS = ALPHABET_SIZE * ALPHABET_SIZE * 100;
     private static final int MIN_GROUP_SIZE = 10;
     private static final int MAX_GROUP_SIZE = 20;
     private static final int MIN_NUMBER_COURSES = 1;
     private static final int MAX_NUMBER_COURSES = 3;
     private static final String INPUT_CANT_NULL = "Input list can't be null!";
+    private static final int CHUNK_SIZE = 10_000;
+    private static final long CHUNK_SEED_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long ENROLMENT_SEED_SALT = 0x5DEECE66DL;
+    private static final long GROUP_SEED_SALT = 0x2545F4914F6CDD1DL;
 
     private Random random;
+    private final boolean parallel;
 
     public DataGenerator(Random random) {
+        this(random, false);
+    }
+
+    public DataGenerator(Random random, boolean parallel) {
         this.random = random;
+        this.parallel = parallel;
     }
 
     public List<Group> generateGroups(int numberGroups) {
+        if (numberGroups > MAX_NUMBER_GROUPS) {
+            throw new IllegalArgumentException("Can't generate more than " + MAX_NUMBER_GROUPS + " unique groups!");
+        }
         List<Group> groups = new ArrayList<>();
+        Set<String> groupNames = new HashSet<>();
         while (groups.size() < numberGroups) {
             String groupName = String.format(GROUP_NAME_PATTERN, generateRandomTitleLetter(),
                     generateRandomTitleLetter(), random.nextInt(10), random.nextInt(10));
+            if (!groupNames.add(groupName)) {
+                continue;
+            }
             Group group = Group.builder()
                     .withName(groupName)
                     .build();
@@ -43,20 +75,37 @@ public class DataGenerator {
 
     public List<Student> generateStudents(int numberStudents, int numberGroups, List<String> firstNames,
             List<String> lastNames) {
+        return generateStudents(random.nextLong(), numberStudents, numberGroups, firstNames, lastNames);
+    }
+
+    public List<Student> generateStudents(long seed, int numberStudents, int numberGroups, List<String> firstNames,
+            List<String> lastNames) {
+        try (Stream<Student> students = streamStudents(seed, numberStudents, numberGroups, firstNames, lastNames)) {
+            return students
+                    .map(student -> Student.builder()
+                            .withGroupId(student.getGroupId())
+                            .withFirstName(student.getFirstName())
+                            .withLastName(student.getLastName())
+                            .build())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    public Stream<Student> streamStudents(long seed, int numberStudents, int numberGroups, List<String> firstNames,
+            List<String> lastNames) {
         if (firstNames == null || lastNames == null) {
             throw new IllegalArgumentException(INPUT_CANT_NULL);
         }
-        List<Student> students = new ArrayList<>();
-        while (students.size() < numberStudents) {
-            String randomFirstName = firstNames.get(random.nextInt(firstNames.size()));
-            String randomLastName = lastNames.get(random.nextInt(lastNames.size()));
-            Student student = Student.builder()
-                    .withFirstName(randomFirstName)
-                    .withLastName(randomLastName)
-                    .build();
-            students.add(student);
-        }
-        return assignStudentsToGroups(students, numberGroups);
+        int[] groupEnds = createGroupEnds(seed, numberStudents, numberGroups);
+        return streamChunks(numberStudents, chunk -> {
+            SplittableRandom chunkRandom = createChunkRandom(seed, chunk);
+            return chunkIds(chunk, numberStudents).mapToObj(studentId -> Student.builder()
+                    .withId(studentId)
+                    .withGroupId(findGroupId(groupEnds, studentId))
+                    .withFirstName(firstNames.get(chunkRandom.nextInt(firstNames.size())))
+                    .withLastName(lastNames.get(chunkRandom.nextInt(lastNames.size())))
+                    .build());
+        });
     }
 
     public List<Course> generateCourses(List<String> courseLines) {
@@ -94,6 +143,21 @@ public class DataGenerator {
         return students;
     }
 
+    public Stream<int[]> streamEnrolments(long seed, int numberStudents, int numberCourses) {
+        if (numberCourses < 1) {
+            return Stream.empty();
+        }
+        int maxNumberCourses = Math.min(MAX_NUMBER_COURSES, numberCourses);
+        return streamChunks(numberStudents, chunk -> {
+            SplittableRandom chunkRandom = createChunkRandom(seed ^ ENROLMENT_SEED_SALT, chunk);
+            return chunkIds(chunk, numberStudents).boxed()
+                    .flatMap(studentId -> chunkRandom.ints(1, numberCourses + 1)
+                            .distinct()
+                            .limit(chunkRandom.nextInt(maxNumberCourses) + MIN_NUMBER_COURSES)
+                            .mapToObj(courseId -> new int[] { studentId, courseId }));
+        });
+    }
+
     private Set<Course> assignCourses(List<Course> courses) {
         Set<Course> randomCourses = new HashSet<>();
         random.ints(1, courses.size())
@@ -107,26 +171,99 @@ public class DataGenerator {
         return (char) (random.nextInt(ALPHABET_SIZE) + FIRST_TITLE_LETTER_ASCII);
     }
 
-    private List<Student> assignStudentsToGroups(List<Student> students, int numberGroups) {
-        int studentsCount = 0;
+    // groups take 10 to 29 students in turn, students left over when the groups are full stay without a group
+    private static int[] createGroupEnds(long seed, int numberStudents, int numberGroups) {
+        SplittableRandom groupRandom = new SplittableRandom(seed ^ GROUP_SEED_SALT);
+        int[] groupEnds = new int[Math.max(numberGroups, 0)];
+        int assigned = 0;
         int groupCount = 0;
-        while (groupCount < numberGroups) {
-            int groupSize = random.nextInt(MAX_GROUP_SIZE) + MIN_GROUP_SIZE;
-            groupCount++;
-            for (int i = studentsCount; i < (studentsCount + groupSize); i++) {
-                if(i >= students.size()) {
-                    break;
+        while (groupCount < numberGroups && assigned < numberStudents) {
+            assigned = Math.min(numberStudents, assigned + groupRandom.nextInt(MAX_GROUP_SIZE) + MIN_GROUP_SIZE);
+            groupEnds[groupCount++] = assigned;
+        }
+        return Arrays.copyOf(groupEnds, groupCount);
+    }
+
+    private static Integer findGroupId(int[] groupEnds, int studentId) {
+        int found = Arrays.binarySearch(groupEnds, studentId);
+        int group = found >= 0 ? found : -found - 1;
+        return group < groupEnds.length ? group + 1 : null;
+    }
+
+    private <T> Stream<T> streamChunks(int numberItems, IntFunction<Stream<T>> chunkGenerator) {
+        int numberChunks = numberItems > 0 ? (numberItems - 1) / CHUNK_SIZE + 1 : 0;
+        if (!parallel) {
+            return IntStream.range(0, numberChunks).boxed().flatMap(chunkGenerator::apply);
+        }
+        ChunkIterator<T> chunks = new ChunkIterator<>(numberChunks, chunkGenerator);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                .flatMap(List::stream)
+                .onClose(chunks::cancel);
+    }
+
+    private static IntStream chunkIds(int chunk, int numberItems) {
+        int firstId = chunk * CHUNK_SIZE + 1;
+        return IntStream.rangeClosed(firstId, Math.min(firstId + CHUNK_SIZE - 1, numberItems));
+    }
+
+    private static SplittableRandom createChunkRandom(long seed, int chunk) {
+        return new SplittableRandom(seed + chunk * CHUNK_SEED_GAMMA);
+    }
+
+    // consumers such as the bulk loader drain the stream through one iterator, so the chunks
+    // are generated ahead of it on the common pool and handed over in order
+    private static final class ChunkIterator<T> implements Iterator<List<T>> {
+
+        private static final int CHUNKS_AHEAD = Runtime.getRuntime().availableProcessors() * 2;
+
+        private final Deque<CompletableFuture<List<T>>> generated = new ArrayDeque<>();
+        private final int numberChunks;
+        private final IntFunction<Stream<T>> chunkGenerator;
+        private int nextChunk;
+
+        private ChunkIterator(int numberChunks, IntFunction<Stream<T>> chunkGenerator) {
+            this.numberChunks = numberChunks;
+            this.chunkGenerator = chunkGenerator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            generateAhead();
+            return !generated.isEmpty();
+        }
+
+        @Override
+        public List<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            CompletableFuture<List<T>> chunk = generated.poll();
+            generateAhead();
+            try {
+                return chunk.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
                 }
-                Student student = students.get(i);
-                student = Student.builder()
-                        .withGroupId(groupCount)
-                        .withFirstName(student.getFirstName())
-                        .withLastName(student.getLastName())
-                        .build();
-                students.set(i, student);
+                throw e;
             }
-            studentsCount += groupSize;
         }
-        return students;
+
+        private void generateAhead() {
+            while (generated.size() < CHUNKS_AHEAD && nextChunk < numberChunks) {
+                submitNextChunk();
+            }
+        }
+
+        private void submitNextChunk() {
+            int chunk = nextChunk++;
+            generated.add(CompletableFuture.supplyAsync(() -> chunkGenerator.apply(chunk)
+                    .collect(Collectors.toList())));
+        }
+
+        private void cancel() {
+            generated.forEach(chunk -> chunk.cancel(false));
+            generated.clear();
+        }
     }
 }
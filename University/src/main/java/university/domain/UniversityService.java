@@ -0,0 +1,126 @@
+package university.domain;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import university.dao.CourseDao;
+import university.dao.GroupDao;
+import university.dao.StudentDao;
+import university.dao.TransactionManager;
+import university.dao.async.AsyncCourseDao;
+import university.dao.async.AsyncStudentDao;
+import university.entity.Course;
+import university.entity.EntitySummary;
+import university.entity.Group;
+import university.entity.Student;
+import university.exceptions.EntityNotFoundException;
+
+public class UniversityService {
+
+    private final StudentDao studentDao;
+    private final CourseDao courseDao;
+    private final GroupDao groupDao;
+    private final TransactionManager transactionManager;
+    private final AsyncStudentDao asyncStudentDao;
+    private final AsyncCourseDao asyncCourseDao;
+
+    public UniversityService(StudentDao studentDao, CourseDao courseDao, GroupDao groupDao,
+            TransactionManager transactionManager, Executor executor) {
+        this.studentDao = studentDao;
+        this.courseDao = courseDao;
+        this.groupDao = groupDao;
+        this.transactionManager = transactionManager;
+        this.asyncStudentDao = new AsyncStudentDao(studentDao, executor);
+        this.asyncCourseDao = new AsyncCourseDao(courseDao, executor);
+    }
+
+    public List<Group> findGroupsBySize(int maxGroupSize) {
+        return groupDao.findAllBySizeEqualsOrLess(maxGroupSize);
+    }
+
+    public List<EntitySummary> findCourses() {
+        return courseDao.findAllSummaries();
+    }
+
+    public List<Student> findStudentsByCourse(String courseName) {
+        return studentDao.findAllByCourse(courseName);
+    }
+
+    public Stream<EntitySummary> streamStudents() {
+        return studentDao.streamSummaries();
+    }
+
+    public List<Course> findCoursesByStudent(int studentId) {
+        return courseDao.findAllByStudentId(studentId);
+    }
+
+    public boolean studentExists(int studentId) {
+        return studentDao.findById(studentId).isPresent();
+    }
+
+    public boolean courseExists(String courseName) {
+        return courseDao.findByName(courseName).isPresent();
+    }
+
+    public void addStudent(Student student) {
+        studentDao.save(student);
+    }
+
+    public void deleteStudent(int studentId) {
+        studentDao.deleteById(studentId);
+    }
+
+    public boolean addStudentToCourse(int studentId, String courseName) {
+        if (transactionManager != null && transactionManager.isActive()) {
+            // the caller holds a bound connection: awaiting pooled lookups here could starve the pool
+            return enrol(studentDao.findById(studentId), studentId, courseDao.findByName(courseName), courseName);
+        }
+        CompletableFuture<Optional<Student>> foundStudent = asyncStudentDao.findById(studentId);
+        CompletableFuture<Optional<Course>> foundCourse = asyncCourseDao.findByName(courseName);
+        Optional<Student> student = await(foundStudent);
+        Optional<Course> course = await(foundCourse);
+        if (transactionManager == null) {
+            return enrol(student, studentId, course, courseName);
+        }
+        return transactionManager.inTransaction(() -> enrol(student, studentId, course, courseName));
+    }
+
+    public void removeStudentFromCourse(int studentId, String courseName) {
+        Course course = courseDao.findByName(courseName).orElseThrow(() -> courseNotFound(courseName));
+        studentDao.deleteFromCourse(studentId, course.getCourseId());
+    }
+
+    private boolean enrol(Optional<Student> foundStudent, int studentId, Optional<Course> foundCourse,
+            String courseName) {
+        Student student = foundStudent.orElseThrow(() -> studentNotFound(studentId));
+        Course course = foundCourse.orElseThrow(() -> courseNotFound(courseName));
+        if (studentDao.findAllByCourse(courseName).contains(student)) {
+            return false;
+        }
+        studentDao.insertStudentToCourses(student, Collections.singletonList(course.getCourseId()));
+        return true;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static EntityNotFoundException studentNotFound(int studentId) {
+        return new EntityNotFoundException("Student with id " + studentId + " doesn't exist");
+    }
+
+    private static EntityNotFoundException courseNotFound(String courseName) {
+        return new EntityNotFoundException("Course " + courseName + " doesn't exist");
+    }
+}
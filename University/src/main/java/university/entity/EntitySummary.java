@@ -0,0 +1,71 @@
+package university.entity;
+
+import java.util.Objects;
+
+public class EntitySummary {
+
+    private final Integer id;
+    private final String name;
+
+    private EntitySummary(Builder builder) {
+        this.id = builder.id;
+        this.name = builder.name;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof EntitySummary)) {
+            return false;
+        }
+        EntitySummary other = (EntitySummary) obj;
+        return Objects.equals(id, other.id) && Objects.equals(name, other.name);
+    }
+
+    @Override
+    public String toString() {
+        return "id " + id + ". " + name;
+    }
+
+    public static class Builder {
+
+        private Integer id;
+        private String name;
+
+        private Builder() {
+        }
+
+        public Builder withId(Integer id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder withName(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public EntitySummary build() {
+            return new EntitySummary(this);
+        }
+    }
+}
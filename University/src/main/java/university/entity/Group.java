@@ -16,6 +16,10 @@ public class Group{
         return new Builder();
     }
 
+    public Integer getGroupId() {
+        return groupId;
+    }
+
     public String getName() {
         return name;
     }
@@ -0,0 +1,73 @@
+package university.http;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+import university.entity.Course;
+import university.entity.EntitySummary;
+import university.entity.Group;
+import university.entity.Student;
+
+final class Json {
+
+    private Json() {
+    }
+
+    static String array(Collection<String> elements) {
+        return elements.stream().collect(Collectors.joining(",", "[", "]"));
+    }
+
+    static String of(Group group) {
+        return "{\"id\":" + group.getGroupId() + ",\"name\":" + string(group.getName()) + "}";
+    }
+
+    static String of(EntitySummary summary) {
+        return "{\"id\":" + summary.getId() + ",\"name\":" + string(summary.getName()) + "}";
+    }
+
+    static String of(Student student) {
+        return "{\"id\":" + student.getStudentId() + ",\"groupId\":" + student.getGroupId() + ",\"firstName\":"
+                + string(student.getFirstName()) + ",\"lastName\":" + string(student.getLastName()) + "}";
+    }
+
+    static String of(Course course) {
+        return "{\"id\":" + course.getCourseId() + ",\"name\":" + string(course.getName()) + ",\"description\":"
+                + string(course.getDescription()) + "}";
+    }
+
+    static String message(String message) {
+        return "{\"message\":" + string(message) + "}";
+    }
+
+    static String string(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder json = new StringBuilder("\"");
+        for (char character : value.toCharArray()) {
+            switch (character) {
+            case '"':
+                json.append("\\\"");
+                break;
+            case '\\':
+                json.append("\\\\");
+                break;
+            case '\n':
+                json.append("\\n");
+                break;
+            case '\r':
+                json.append("\\r");
+                break;
+            case '\t':
+                json.append("\\t");
+                break;
+            default:
+                if (character < 0x20) {
+                    json.append(String.format("\\u%04x", (int) character));
+                } else {
+                    json.append(character);
+                }
+            }
+        }
+        return json.append('"').toString();
+    }
+}
@@ -0,0 +1,80 @@
+package university.http;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs exchanges of the HTTP server. Exchanges the workers can't take are handed to a single thread which only
+ * answers them with 503, so the dispatcher never runs a request itself. When that thread is saturated too, the
+ * server closes the connection.
+ */
+class RequestExecutor implements Executor, AutoCloseable {
+
+    private static final int QUEUED_REQUESTS_PER_THREAD = 4;
+    private static final int QUEUED_REJECTIONS = 64;
+    private static final long SHUTDOWN_TIMEOUT = 5_000;
+    private static final ThreadLocal<Boolean> REJECTED = new ThreadLocal<>();
+
+    private final ThreadPoolExecutor workers;
+    private final ThreadPoolExecutor rejections;
+
+    RequestExecutor(int threads, String threadName) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Number of request threads must be positive!");
+        }
+        this.workers = createPool(threads, threads * QUEUED_REQUESTS_PER_THREAD, threadName);
+        this.rejections = createPool(1, QUEUED_REJECTIONS, threadName + "-rejected");
+    }
+
+    static boolean isRejected() {
+        return Boolean.TRUE.equals(REJECTED.get());
+    }
+
+    @Override
+    public void execute(Runnable exchange) {
+        try {
+            workers.execute(exchange);
+        } catch (RejectedExecutionException e) {
+            rejections.execute(() -> {
+                REJECTED.set(Boolean.TRUE);
+                try {
+                    exchange.run();
+                } finally {
+                    REJECTED.remove();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        workers.shutdown();
+        rejections.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+            if (!rejections.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                rejections.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            rejections.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadPoolExecutor createPool(int threads, int queueCapacity, String threadName) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, threadName + "-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,353 @@
+package university.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import university.domain.UniversityService;
+import university.entity.Student;
+import university.exceptions.EntityNotFoundException;
+
+public class UniversityHttpServer implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(UniversityHttpServer.class.getName());
+    private static final String PROPERTY_ENABLED = "http.enabled";
+    private static final String PROPERTY_PORT = "http.port";
+    private static final String PROPERTY_THREADS = "http.threads";
+    private static final int DEFAULT_PORT = 8080;
+    private static final int DEFAULT_THREADS = 16;
+    private static final String THREAD_NAME = "http-request";
+    private static final int OK = 200;
+    private static final int CREATED = 201;
+    private static final int NO_CONTENT = 204;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int INTERNAL_ERROR = 500;
+    private static final int SERVICE_UNAVAILABLE = 503;
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String DELETE = "DELETE";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+    private final UniversityService service;
+    private final HttpServer server;
+    private final RequestExecutor executor;
+
+    public UniversityHttpServer(UniversityService service, String propertiesPath) {
+        this(service, readInt(propertiesPath, PROPERTY_PORT, DEFAULT_PORT),
+                readInt(propertiesPath, PROPERTY_THREADS, DEFAULT_THREADS));
+    }
+
+    public UniversityHttpServer(UniversityService service, int port, int threads) {
+        if (service == null) {
+            throw new IllegalArgumentException("Service can't be null!");
+        }
+        this.service = service;
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to bind HTTP server to port " + port, e);
+        }
+        this.executor = new RequestExecutor(threads, THREAD_NAME);
+        server.createContext("/groups", this::handleGroups);
+        server.createContext("/courses", this::handleCourses);
+        server.createContext("/students", this::handleStudents);
+        server.setExecutor(executor);
+    }
+
+    public static boolean isEnabled(String propertiesPath) {
+        ResourceBundle resources = getBundle(propertiesPath);
+        return resources.containsKey(PROPERTY_ENABLED)
+                && Boolean.parseBoolean(resources.getString(PROPERTY_ENABLED).trim());
+    }
+
+    public void start() {
+        server.start();
+        LOGGER.info(() -> "Serving university requests on port " + getPort());
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handleGroups(HttpExchange exchange) throws IOException {
+        handle(exchange, (method, path, parameters) -> {
+            if (path.length != 1) {
+                return Response.notFound();
+            }
+            if (!GET.equals(method)) {
+                return Response.methodNotAllowed();
+            }
+            int maxSize = Integer.parseInt(require(parameters, "maxSize"));
+            return Response.ok(Json.array(service.findGroupsBySize(maxSize).stream()
+                    .map(Json::of)
+                    .collect(Collectors.toList())));
+        });
+    }
+
+    private void handleCourses(HttpExchange exchange) throws IOException {
+        handle(exchange, (method, path, parameters) -> {
+            if (!GET.equals(method)) {
+                return Response.methodNotAllowed();
+            }
+            if (path.length == 1) {
+                return Response.ok(Json.array(service.findCourses().stream()
+                        .map(Json::of)
+                        .collect(Collectors.toList())));
+            }
+            if (path.length == 3 && "students".equals(path[2])) {
+                if (!service.courseExists(path[1])) {
+                    throw new EntityNotFoundException("Course " + path[1] + " doesn't exist");
+                }
+                return Response.ok(Json.array(service.findStudentsByCourse(path[1]).stream()
+                        .map(Json::of)
+                        .collect(Collectors.toList())));
+            }
+            return Response.notFound();
+        });
+    }
+
+    private void handleStudents(HttpExchange exchange) throws IOException {
+        handle(exchange, (method, path, parameters) -> {
+            if (path.length == 1) {
+                if (GET.equals(method)) {
+                    return Response.streamed(service.streamStudents().map(Json::of));
+                }
+                if (POST.equals(method)) {
+                    service.addStudent(Student.builder()
+                            .withFirstName(require(parameters, "firstName"))
+                            .withLastName(require(parameters, "lastName"))
+                            .build());
+                    return new Response(CREATED, Json.message("Student added successfully!"));
+                }
+                return Response.methodNotAllowed();
+            }
+            int studentId = Integer.parseInt(path[1]);
+            if (path.length == 2) {
+                if (!DELETE.equals(method)) {
+                    return Response.methodNotAllowed();
+                }
+                service.deleteStudent(studentId);
+                return new Response(NO_CONTENT, null);
+            }
+            if (path.length == 3 && "courses".equals(path[2])) {
+                if (!GET.equals(method)) {
+                    return Response.methodNotAllowed();
+                }
+                return Response.ok(Json.array(service.findCoursesByStudent(studentId).stream()
+                        .map(Json::of)
+                        .collect(Collectors.toList())));
+            }
+            if (path.length == 4 && "courses".equals(path[2])) {
+                return enrol(method, studentId, path[3]);
+            }
+            return Response.notFound();
+        });
+    }
+
+    private Response enrol(String method, int studentId, String courseName) {
+        if (POST.equals(method)) {
+            return service.addStudentToCourse(studentId, courseName)
+                    ? new Response(CREATED, Json.message("Student added to course successfully!"))
+                    : Response.ok(Json.message("This student already has this course!"));
+        }
+        if (DELETE.equals(method)) {
+            service.removeStudentFromCourse(studentId, courseName);
+            return new Response(NO_CONTENT, null);
+        }
+        return Response.methodNotAllowed();
+    }
+
+    private void handle(HttpExchange exchange, Route route) throws IOException {
+        if (RequestExecutor.isRejected()) {
+            exchange.getResponseHeaders().set("Retry-After", RETRY_AFTER_SECONDS);
+            send(exchange, new Response(SERVICE_UNAVAILABLE, Json.message("Server is busy, try again later")));
+            return;
+        }
+        Response response;
+        try {
+            String[] path = exchange.getRequestURI().getPath().replaceAll("^/+|/+$", "").split("/+");
+            Map<String, String> parameters = parseParameters(exchange.getRequestURI().getRawQuery());
+            if (POST.equals(exchange.getRequestMethod())) {
+                parameters.putAll(parseParameters(readBody(exchange.getRequestBody())));
+            }
+            response = route.handle(exchange.getRequestMethod(), path, parameters);
+        } catch (EntityNotFoundException e) {
+            response = new Response(NOT_FOUND, Json.message(e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            response = new Response(BAD_REQUEST, Json.message(e.getMessage()));
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Unable to serve " + exchange.getRequestURI(), e);
+            response = new Response(INTERNAL_ERROR, Json.message(e.getMessage()));
+        }
+        send(exchange, response);
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        if (response.elements != null) {
+            sendArray(exchange, response);
+            return;
+        }
+        try {
+            if (response.body == null) {
+                exchange.sendResponseHeaders(response.status, -1);
+                return;
+            }
+            byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // rows are written as they are read, so the response is chunked instead of buffered in memory. The first row
+    // is read before the status is sent, so a failing query still gets an error status. A failure after that leaves
+    // the exchange open and the server drops the connection without the last chunk, so clients see a broken body.
+    private static void sendArray(HttpExchange exchange, Response response) throws IOException {
+        try (Stream<String> elements = response.elements) {
+            Iterator<String> iterator = elements.iterator();
+            String first;
+            try {
+                first = iterator.hasNext() ? iterator.next() : null;
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Unable to serve " + exchange.getRequestURI(), e);
+                send(exchange, new Response(INTERNAL_ERROR, Json.message(e.getMessage())));
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+            exchange.sendResponseHeaders(response.status, 0);
+            Writer output = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(),
+                    StandardCharsets.UTF_8));
+            output.write('[');
+            if (first != null) {
+                output.write(first);
+                try {
+                    while (iterator.hasNext()) {
+                        output.write(',');
+                        output.write(iterator.next());
+                    }
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Response to " + exchange.getRequestURI() + " was cut short", e);
+                    throw new IOException("Response to " + exchange.getRequestURI() + " was cut short", e);
+                }
+            }
+            output.write(']');
+            output.flush();
+        }
+        exchange.close();
+    }
+
+    private static String readBody(InputStream input) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            body.write(buffer, 0, read);
+        }
+        return new String(body.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static Map<String, String> parseParameters(String encoded) throws UnsupportedEncodingException {
+        Map<String, String> parameters = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(name, "UTF-8"), URLDecoder.decode(value, "UTF-8"));
+        }
+        return parameters;
+    }
+
+    private static String require(Map<String, String> parameters, String name) {
+        String value = parameters.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Parameter " + name + " is required");
+        }
+        return value;
+    }
+
+    private static int readInt(String propertiesPath, String key, int defaultValue) {
+        ResourceBundle resources = getBundle(propertiesPath);
+        return resources.containsKey(key) ? Integer.parseInt(resources.getString(key).trim()) : defaultValue;
+    }
+
+    private static ResourceBundle getBundle(String propertiesPath) {
+        try {
+            return ResourceBundle.getBundle(propertiesPath);
+        } catch (MissingResourceException | NullPointerException e) {
+            throw new IllegalArgumentException("This properties path not exists!" + propertiesPath, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Route {
+
+        Response handle(String method, String[] path, Map<String, String> parameters);
+    }
+
+    private static final class Response {
+
+        private final int status;
+        private final String body;
+        private final Stream<String> elements;
+
+        private Response(int status, String body) {
+            this(status, body, null);
+        }
+
+        private Response(int status, String body, Stream<String> elements) {
+            this.status = status;
+            this.body = body;
+            this.elements = elements;
+        }
+
+        private static Response ok(String body) {
+            return new Response(OK, body);
+        }
+
+        private static Response streamed(Stream<String> elements) {
+            return new Response(OK, null, elements);
+        }
+
+        private static Response notFound() {
+            return new Response(NOT_FOUND, Json.message("Not found"));
+        }
+
+        private static Response methodNotAllowed() {
+            return new Response(METHOD_NOT_ALLOWED, Json.message("Method not allowed"));
+        }
+    }
+}
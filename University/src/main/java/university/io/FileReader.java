@@ -1,8 +1,12 @@
 package university.io;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.List;
@@ -23,4 +27,15 @@ public class FileReader {
             throw new NoFileException("File \"" + fileName + "\" not found!", e);
         }
     }
+
+    public BufferedReader openReader(String fileName) {
+        if (fileName == null) {
+            throw new IllegalArgumentException("File name can't be null!");
+        }
+        InputStream input = getClass().getClassLoader().getResourceAsStream(fileName);
+        if (input == null) {
+            throw new NoFileException("File \"" + fileName + "\" not found!", null);
+        }
+        return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
 }
@@ -1,20 +1,74 @@
 package university.io;
 
-import java.util.Scanner;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.NoSuchElementException;
 
 public class ViewProvider {
 
+    private final boolean interactive;
+    private BufferedReader reader;
+    private PrintWriter writer;
+
+    public ViewProvider() {
+        this.interactive = true;
+    }
+
+    public ViewProvider(Reader input, Writer output) {
+        if (input == null || output == null) {
+            throw new IllegalArgumentException("Input and output can't be null!");
+        }
+        this.interactive = false;
+        this.reader = input instanceof BufferedReader ? (BufferedReader) input : new BufferedReader(input);
+        this.writer = new PrintWriter(output instanceof BufferedWriter ? output : new BufferedWriter(output));
+    }
+
     public void printMessage(String message) {
-        System.out.println(message);
+        PrintWriter output = getWriter();
+        output.println(message);
+        if (interactive) {
+            output.flush();
+        }
     }
 
     public String readString() {
-        Scanner scanner = new Scanner(System.in);
-        return scanner.nextLine();
+        try {
+            String line = getReader().readLine();
+            if (line == null) {
+                throw new NoSuchElementException("No more input");
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read input", e);
+        }
     }
 
     public int readNumber() {
-        Scanner scanner = new Scanner(System.in);
-        return scanner.nextInt();
+        return Integer.parseInt(readString().trim());
+    }
+
+    public void flush() {
+        getWriter().flush();
+    }
+
+    private BufferedReader getReader() {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(System.in));
+        }
+        return reader;
+    }
+
+    private PrintWriter getWriter() {
+        if (writer == null) {
+            writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
+        }
+        return writer;
     }
 }
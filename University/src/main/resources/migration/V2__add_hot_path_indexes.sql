@@ -0,0 +1,17 @@
+CREATE INDEX IF NOT EXISTS students_group_id_idx ON students (group_id);
+-- a course name may have been saved twice before it became a key: move enrolments to the oldest course of that name
+INSERT INTO students_to_courses (student_id, course_id)
+SELECT DISTINCT enrolment.student_id, (SELECT MIN(same_name.course_id) FROM courses same_name
+    WHERE same_name.course_name = duplicate.course_name)
+FROM students_to_courses enrolment INNER JOIN courses duplicate ON duplicate.course_id = enrolment.course_id
+WHERE EXISTS (SELECT 1 FROM courses older
+    WHERE older.course_name = duplicate.course_name AND older.course_id < duplicate.course_id)
+AND NOT EXISTS (SELECT 1 FROM students_to_courses existing INNER JOIN courses oldest
+    ON oldest.course_id = existing.course_id
+    WHERE existing.student_id = enrolment.student_id AND oldest.course_name = duplicate.course_name
+    AND NOT EXISTS (SELECT 1 FROM courses older
+        WHERE older.course_name = oldest.course_name AND older.course_id < oldest.course_id));
+DELETE FROM courses WHERE EXISTS (SELECT 1 FROM courses older
+    WHERE older.course_name = courses.course_name AND older.course_id < courses.course_id);
+CREATE UNIQUE INDEX IF NOT EXISTS courses_course_name_key ON courses (course_name);
+CREATE INDEX IF NOT EXISTS students_to_courses_course_id_idx ON students_to_courses (course_id);
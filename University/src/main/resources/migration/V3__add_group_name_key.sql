@@ -0,0 +1,10 @@
+-- natural key used by GroupDao.upsert
+-- earlier generators could repeat a group name: move students to the oldest group of that name and drop the rest
+UPDATE students SET group_id = (SELECT MIN(same_name.group_id) FROM groups same_name
+    WHERE same_name.group_name = (SELECT duplicate.group_name FROM groups duplicate
+        WHERE duplicate.group_id = students.group_id))
+WHERE group_id IN (SELECT duplicate.group_id FROM groups duplicate WHERE EXISTS (SELECT 1 FROM groups older
+    WHERE older.group_name = duplicate.group_name AND older.group_id < duplicate.group_id));
+DELETE FROM groups WHERE EXISTS (SELECT 1 FROM groups older
+    WHERE older.group_name = groups.group_name AND older.group_id < groups.group_id);
+CREATE UNIQUE INDEX IF NOT EXISTS groups_group_name_key ON groups (group_name);
@@ -0,0 +1,8 @@
+-- DBInitialiser records a finished seeding run here, so a partially seeded database is not taken as populated
+CREATE TABLE IF NOT EXISTS seed_state(
+seed BIGINT,
+completed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+-- databases seeded before the table existed are treated as complete
+INSERT INTO seed_state (seed) SELECT CAST(NULL AS BIGINT) FROM students
+WHERE NOT EXISTS (SELECT 1 FROM seed_state) LIMIT 1;
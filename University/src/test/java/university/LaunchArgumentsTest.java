@@ -0,0 +1,62 @@
+package university;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LaunchArgumentsTest {
+
+    @Test
+    void parse_ShouldReturnScaleAndSeed_WhenInputNumbers() {
+        LaunchArguments arguments = LaunchArguments.parse("200", "10", "42");
+        assertEquals(200, arguments.getNumberStudents());
+        assertEquals(10, arguments.getNumberGroups());
+        assertEquals(42, arguments.getSeed());
+        assertNull(arguments.getBatchScript());
+    }
+
+    @Test
+    void parse_ShouldReturnDefaults_WhenInputOnlyBatchOption() {
+        LaunchArguments arguments = LaunchArguments.parse("--batch=script.txt");
+        assertEquals("script.txt", arguments.getBatchScript());
+        assertFalse(arguments.hasScale());
+        assertFalse(arguments.hasSeed());
+    }
+
+    @Test
+    void parse_ShouldReturnScaleWithoutSeed_WhenInputTwoNumbersAndBatchOption() {
+        LaunchArguments arguments = LaunchArguments.parse("200", "--batch", "10");
+        assertTrue(arguments.hasScale());
+        assertFalse(arguments.hasSeed());
+        assertEquals("", arguments.getBatchScript());
+    }
+
+    @Test
+    void parse_ShouldThrowIllegalArgumentException_WhenNumberGroupsMissing() {
+        assertThrows(IllegalArgumentException.class, () -> LaunchArguments.parse("200"));
+    }
+
+    @Test
+    void parse_ShouldThrowIllegalArgumentException_WhenTooManyArguments() {
+        assertThrows(IllegalArgumentException.class, () -> LaunchArguments.parse("200", "10", "42", "7"));
+    }
+
+    @Test
+    void parse_ShouldThrowIllegalArgumentException_WhenInputNotNumber() {
+        assertThrows(IllegalArgumentException.class, () -> LaunchArguments.parse("ten", "10"));
+    }
+
+    @Test
+    void parse_ShouldThrowIllegalArgumentException_WhenInputNegative() {
+        assertThrows(IllegalArgumentException.class, () -> LaunchArguments.parse("200", "-1"));
+    }
+
+    @Test
+    void parse_ShouldThrowIllegalArgumentException_WhenOptionUnknown() {
+        assertThrows(IllegalArgumentException.class, () -> LaunchArguments.parse("--bach"));
+    }
+}
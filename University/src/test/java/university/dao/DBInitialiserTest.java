@@ -1,21 +1,32 @@
 package university.dao;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
 
+import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import university.domain.DataGenerator;
 import university.entity.Course;
 import university.entity.Group;
@@ -45,9 +56,73 @@ class DBInitialiserTest {
     }
 
     @Test
-    void initDB_ShouldSummonExecuteScript_WhenSummon() {
+    void initDB_ShouldApplyPendingMigrations_WhenSummon() {
+        when(readerMock.read("migration/migrations.txt")).thenReturn(Collections.singletonList("V1__create_tables.sql"));
         initialiser.initDB();
-        verify(executorMock).executeScript(anyString());
+        verify(executorMock).executeMigration(1, "migration/V1__create_tables.sql");
+        verify(executorMock, never()).executeScript(anyString());
+    }
+
+    @Test
+    void initDB_ShouldApplyMigrationsOutsideSeedingTransaction_WhenTransactionManagerSet() {
+        TransactionManager transactionManager = new TransactionManager(() -> mock(Connection.class));
+        List<Boolean> migratedInTransaction = new ArrayList<>();
+        List<Boolean> seededInTransaction = new ArrayList<>();
+        when(readerMock.read("migration/migrations.txt")).thenReturn(Collections.singletonList("V1__create_tables.sql"));
+        when(executorMock.executeMigration(1, "migration/V1__create_tables.sql")).thenAnswer(invocation -> {
+            migratedInTransaction.add(transactionManager.isActive());
+            return true;
+        });
+        when(generatorMock.generateGroups(anyInt())).thenAnswer(invocation -> {
+            seededInTransaction.add(transactionManager.isActive());
+            return createGroups();
+        });
+        initialiser.setTransactionManager(transactionManager);
+        initialiser.initDB();
+        assertEquals(Collections.singletonList(false), migratedInTransaction);
+        assertEquals(Collections.singletonList(true), seededInTransaction);
+    }
+
+    @Test
+    void initDB_ShouldSkipSeeding_WhenSeedingCompletedBefore() {
+        when(executorMock.isSeedingCompleted()).thenReturn(true);
+        initialiser.initDB();
+        verify(generatorMock, never()).generateGroups(anyInt());
+        verify(groupDaoMock, never()).upsertAll(anyList());
+        verify(studentDaoMock, never()).saveAll(anyList());
+        verify(studentDaoMock, never()).insertEnrolments(any());
+    }
+
+    @Test
+    void initDB_ShouldDeleteStudentsLeftByUnfinishedSeedingAndSeedAgain_WhenSeedingNotCompleted() {
+        when(studentDaoMock.findAll(1, 0)).thenReturn(createStudents());
+        when(generatorMock.generateStudents(anyLong(), anyInt(), anyInt(), anyList(), anyList()))
+                .thenReturn(createStudents());
+        when(generatorMock.generateGroups(anyInt())).thenReturn(createGroups());
+        when(groupDaoMock.upsertAll(createGroups())).thenReturn(createGroups());
+        initialiser.setSeed(42);
+        initialiser.initDB();
+        InOrder inOrder = inOrder(executorMock, studentDaoMock);
+        inOrder.verify(executorMock).deleteUnfinishedSeeding();
+        inOrder.verify(studentDaoMock).saveAll(createStudents());
+        inOrder.verify(executorMock).recordSeedingCompleted(42);
+    }
+
+    @Test
+    void initDB_ShouldNotDeleteAnything_WhenDatabaseEmpty() {
+        initialiser.initDB();
+        verify(executorMock, never()).deleteUnfinishedSeeding();
+    }
+
+    @Test
+    void initDB_ShouldRecordSeedingCompleted_WhenEntitiesSaved() {
+        when(generatorMock.generateStudents(anyLong(), anyInt(), anyInt(), anyList(), anyList()))
+                .thenReturn(createStudents());
+        when(generatorMock.generateGroups(anyInt())).thenReturn(createGroups());
+        when(groupDaoMock.upsertAll(createGroups())).thenReturn(createGroups());
+        initialiser.setSeed(42);
+        initialiser.initDB();
+        verify(executorMock).recordSeedingCompleted(42);
     }
 
     @Test
@@ -58,27 +133,99 @@ class DBInitialiserTest {
 
     @Test
     void initDB_ShouldSummonGeneratorDataMethodsAndSaveResult_WhenSummon() {
-        when(generatorMock.generateStudents(anyInt(),anyInt(), anyList(), anyList())).thenReturn(createStudents());
+        when(generatorMock.generateStudents(anyLong(), anyInt(), anyInt(), anyList(), anyList()))
+                .thenReturn(createStudents());
         when(generatorMock.generateGroups(anyInt())).thenReturn(createGroups());
         when(generatorMock.generateCourses(anyList())).thenReturn(createCourses());
+        when(groupDaoMock.upsertAll(createGroups())).thenReturn(createGroups());
         initialiser.initDB();
         verify(generatorMock, atLeastOnce()).generateGroups(anyInt());
         verify(generatorMock, atLeastOnce()).generateCourses(anyList());
-        verify(generatorMock, atLeastOnce()).generateStudents(anyInt(),anyInt(), anyList(), anyList());
-        verify(studentDaoMock).save(createStudents().get(0));
-        verify(groupDaoMock).save(createGroups().get(0));
-        verify(courseDaoMock).save(createCourses().get(0));
+        verify(generatorMock, atLeastOnce()).generateStudents(anyLong(), anyInt(), anyInt(), anyList(), anyList());
+        verify(studentDaoMock).saveAll(createStudents());
+        verify(groupDaoMock).upsertAll(createGroups());
+        verify(courseDaoMock).upsertAll(createCourses());
     }
 
     @Test
-    void initDB_ShouldSummonFindAllDaoClasses_WhenSummon() {
-        when(generatorMock.generateStudentCourses(anyList(), anyList())).thenReturn(createStudents());
+    void initDB_ShouldAssignCoursesToSavedEntitiesWithoutFindAll_WhenSummon() {
+        when(generatorMock.generateStudents(anyLong(), anyInt(), anyInt(), anyList(), anyList()))
+                .thenReturn(createStudents());
+        when(generatorMock.generateGroups(anyInt())).thenReturn(createGroups());
+        when(groupDaoMock.upsertAll(createGroups())).thenReturn(createGroups());
+        when(generatorMock.generateCourses(anyList())).thenReturn(createCourses());
+        when(studentDaoMock.saveAll(createStudents())).thenReturn(createStudents());
+        when(courseDaoMock.upsertAll(createCourses())).thenReturn(createCourses());
+        when(generatorMock.generateStudentCourses(createStudents(), createCourses())).thenReturn(createStudents());
         List<Integer> courseId = new ArrayList<>();
         courseId.add(1);
         initialiser.initDB();
-        verify(courseDaoMock, atLeastOnce()).findAll();
-        verify(studentDaoMock, atLeastOnce()).findAll();
-        verify(studentDaoMock, atLeastOnce()).insertStudentToCourses(createStudents().get(0), courseId);
+        verify(courseDaoMock, never()).findAll();
+        verify(studentDaoMock, never()).findAll();
+        verify(studentDaoMock).insertEnrolments(Collections.singletonMap(createStudents().get(0).getStudentId(),
+                courseId));
+        verify(studentDaoMock, never()).insertStudentToCourses(any(), anyList());
+    }
+
+    @Test
+    void initDB_ShouldLoadEntitiesThroughBulkLoader_WhenBulkLoaderProvided() {
+        BulkLoader bulkLoaderMock = mock(BulkLoader.class);
+        DBInitialiser bulkInitialiser = new DBInitialiser(readerMock, generatorMock, executorMock, studentDaoMock,
+                courseDaoMock, groupDaoMock, bulkLoaderMock);
+        bulkInitialiser.setScale(1, 1);
+        bulkInitialiser.setSeed(42);
+        when(generatorMock.streamStudents(42, 1, 1, new ArrayList<>(), new ArrayList<>()))
+                .thenReturn(createStudents().stream());
+        when(generatorMock.generateGroups(1)).thenReturn(createGroups());
+        when(generatorMock.generateCourses(anyList())).thenReturn(createCourses());
+        when(generatorMock.streamEnrolments(42, 1, 1)).thenReturn(Stream.of(new int[] { 1, 1 }));
+        when(studentDaoMock.streamAll()).thenReturn(createStudents().stream());
+        bulkInitialiser.initDB();
+        verify(groupDaoMock).upsertAll(createGroups());
+        verify(courseDaoMock).upsertAll(createCourses());
+        verify(bulkLoaderMock).load(eq("students"), anyList(), any());
+        verify(bulkLoaderMock).load(eq("students_to_courses"), anyList(), any());
+        verify(bulkLoaderMock, never()).load(eq("groups"), anyList(), any());
+        verify(studentDaoMock, never()).saveAll(anyList());
+        verify(generatorMock, never()).generateStudents(anyLong(), anyInt(), anyInt(), anyList(), anyList());
+    }
+
+    @Test
+    void initDB_ShouldLoadRowsWithIdsAssignedByDatabase_WhenSequencesDoNotStartAtOne() {
+        BulkLoader bulkLoaderMock = mock(BulkLoader.class);
+        DBInitialiser bulkInitialiser = new DBInitialiser(readerMock, generatorMock, executorMock, studentDaoMock,
+                courseDaoMock, groupDaoMock, bulkLoaderMock);
+        bulkInitialiser.setScale(1, 1);
+        bulkInitialiser.setSeed(42);
+        when(generatorMock.streamStudents(42, 1, 1, new ArrayList<>(), new ArrayList<>()))
+                .thenReturn(createStudents().stream());
+        when(generatorMock.generateGroups(1)).thenReturn(createGroups());
+        when(generatorMock.generateCourses(anyList())).thenReturn(createCourses());
+        when(generatorMock.streamEnrolments(42, 1, 1)).thenReturn(Stream.of(new int[] { 1, 1 }));
+        when(groupDaoMock.upsertAll(createGroups()))
+                .thenReturn(Collections.singletonList(Group.builder().withId(7).withName("AB-22").build()));
+        when(courseDaoMock.upsertAll(createCourses())).thenReturn(Collections.singletonList(
+                Course.builder().withId(9).withName("Law").withDescription("test-courses").build()));
+        when(studentDaoMock.streamAll()).thenReturn(Stream.of(
+                Student.builder().withId(42).withGroupId(7).withFirstName("Bob").withLastName("Morris").build()));
+        List<List<Object>> students = new ArrayList<>();
+        List<List<Object>> enrolments = new ArrayList<>();
+        when(bulkLoaderMock.load(eq("students"), anyList(), any())).thenAnswer(invocation -> {
+            invocation.<Stream<Object[]>>getArgument(2).forEach(row -> students.add(Arrays.asList(row)));
+            return null;
+        });
+        when(bulkLoaderMock.load(eq("students_to_courses"), anyList(), any())).thenAnswer(invocation -> {
+            invocation.<Stream<Object[]>>getArgument(2).forEach(row -> enrolments.add(Arrays.asList(row)));
+            return null;
+        });
+        bulkInitialiser.initDB();
+        assertEquals(Collections.singletonList(Arrays.asList(7, "Bob", "Morris")), students);
+        assertEquals(Collections.singletonList(Arrays.asList(42, 9)), enrolments);
+    }
+
+    @Test
+    void setScale_ShouldThrowIllegalArgumentException_WhenInputNumberStudentsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> initialiser.setScale(10, -1));
     }
 
     @Test
@@ -0,0 +1,87 @@
+package university.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import university.io.FileReader;
+import university.utils.TestUtil;
+
+class MigrationRunnerTest {
+
+    private static final String INDEX_FILE = "migration/migrations.txt";
+
+    @Test
+    void migrate_ShouldApplyOnlyPendingScriptsInVersionOrder_WhenIndexUnordered() {
+        FileReader readerMock = mock(FileReader.class);
+        ScriptExecutor executorMock = mock(ScriptExecutor.class);
+        when(readerMock.read(INDEX_FILE)).thenReturn(Arrays.asList("V3__c.sql", "V1__a.sql", "", "V2__b.sql"));
+        when(executorMock.findAppliedVersions()).thenReturn(Collections.singleton(1));
+        when(executorMock.executeMigration(anyInt(), anyString())).thenReturn(true);
+        MigrationRunner runner = new MigrationRunner(executorMock, readerMock);
+        assertEquals(2, runner.migrate());
+        InOrder inOrder = inOrder(executorMock);
+        inOrder.verify(executorMock).executeMigration(2, "migration/V2__b.sql");
+        inOrder.verify(executorMock).executeMigration(3, "migration/V3__c.sql");
+        verify(executorMock, never()).executeMigration(1, "migration/V1__a.sql");
+    }
+
+    @Test
+    void migrate_ShouldThrowIllegalStateException_WhenVersionDuplicated() {
+        FileReader readerMock = mock(FileReader.class);
+        when(readerMock.read(INDEX_FILE)).thenReturn(Arrays.asList("V1__a.sql", "V1__b.sql"));
+        MigrationRunner runner = new MigrationRunner(mock(ScriptExecutor.class), readerMock);
+        assertThrows(IllegalStateException.class, runner::migrate);
+    }
+
+    @Test
+    void migrate_ShouldApplyNothing_WhenDatabaseAlreadyMigrated() {
+        FileReader reader = new FileReader();
+        MigrationRunner runner = new MigrationRunner(new ScriptExecutor(new ConnectorH2("h2"), reader), reader);
+        TestUtil.executeScript("\\inittestdb.sql");
+        TestUtil.queryToDB("DROP TABLE IF EXISTS schema_version;");
+        TestUtil.queryToDB("DROP TABLE IF EXISTS seed_state;");
+        assertEquals(4, runner.migrate());
+        assertEquals(0, runner.migrate());
+        assertEquals(1, TestUtil.getNumberRow("SELECT COUNT(*) FROM seed_state;"));
+        assertEquals(4, TestUtil.getNumberRow("SELECT COUNT(*) FROM schema_version;"));
+    }
+
+    @Test
+    void migrate_ShouldMergeGroupsWithSameName_WhenDatabaseHasDuplicateGroupNames() {
+        FileReader reader = new FileReader();
+        MigrationRunner runner = new MigrationRunner(new ScriptExecutor(new ConnectorH2("h2"), reader), reader);
+        TestUtil.executeScript("\\inittestdb.sql");
+        TestUtil.queryToDB("DROP INDEX IF EXISTS groups_group_name_key;");
+        TestUtil.queryToDB("INSERT INTO groups VALUES(3, 'AB-22');");
+        TestUtil.queryToDB("UPDATE students SET group_id = 3 WHERE student_id = 3;");
+        TestUtil.queryToDB("DROP TABLE IF EXISTS schema_version;");
+        assertEquals(4, runner.migrate());
+        assertEquals(2, TestUtil.getNumberRow("SELECT COUNT(*) FROM groups;"));
+        assertEquals(3, TestUtil.getNumberRow("SELECT COUNT(*) FROM students WHERE group_id = 1;"));
+    }
+
+    @Test
+    void migrate_ShouldMergeCoursesWithSameName_WhenDatabaseHasDuplicateCourseNames() {
+        FileReader reader = new FileReader();
+        MigrationRunner runner = new MigrationRunner(new ScriptExecutor(new ConnectorH2("h2"), reader), reader);
+        TestUtil.executeScript("\\inittestdb.sql");
+        TestUtil.queryToDB("INSERT INTO courses VALUES(4, 'Law', 'test-courses');");
+        TestUtil.queryToDB("INSERT INTO students_to_courses (student_id, course_id) VALUES(1,4);");
+        TestUtil.queryToDB("INSERT INTO students_to_courses (student_id, course_id) VALUES(5,4);");
+        TestUtil.queryToDB("DROP TABLE IF EXISTS schema_version;");
+        assertEquals(4, runner.migrate());
+        assertEquals(3, TestUtil.getNumberRow("SELECT COUNT(*) FROM courses;"));
+        assertEquals(5, TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses WHERE course_id = 1;"));
+    }
+}
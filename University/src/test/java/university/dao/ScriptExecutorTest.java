@@ -1,5 +1,7 @@
 package university.dao;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -12,6 +14,7 @@ import org.postgresql.ds.PGSimpleDataSource;
 import university.dao.impl.ConnectorPostgres;
 import university.exceptions.DaoException;
 import university.io.FileReader;
+import university.utils.TestUtil;
 
 class ScriptExecutorTest {
     
@@ -40,6 +43,62 @@ class ScriptExecutorTest {
         assertTrue(tableExists);
     }
     
+    @Test
+    void executeScript_ShouldExecuteEveryStatement_WhenScriptContainsCommentsAndQuotedSemicolons() {
+        executor.executeScript("\\commentedscript.sql");
+        assertEquals(2, TestUtil.getNumberRow(
+                "SELECT COUNT(*) FROM commented WHERE note LIKE '%;%' OR note LIKE '--%';"));
+    }
+
+    @Test
+    void executeScript_ShouldExecuteEveryStatement_WhenScriptContainsQuery() {
+        executor.executeScript("\\queryscript.sql");
+        assertEquals(2, TestUtil.getNumberRow("SELECT COUNT(*) FROM queried;"));
+    }
+
+    @Test
+    void executeScript_ShouldReportFailedStatement_WhenStatementInBatchFailed() {
+        DaoException thrown = assertThrows(DaoException.class, () -> executor.executeScript("\\failingscript.sql"));
+        assertTrue(thrown.getMessage().contains("Statement 4 "));
+        assertTrue(thrown.getMessage().endsWith("failed: INSERT INTO failing VALUES(1)"));
+    }
+
+    @Test
+    void executeMigration_ShouldApplyScriptOnlyOnce_WhenSameVersionExecutedTwice() {
+        TestUtil.queryToDB("DROP TABLE IF EXISTS migrated;");
+        TestUtil.queryToDB("DROP TABLE IF EXISTS schema_version;");
+        assertTrue(executor.executeMigration(1, "\\migrationscript.sql"));
+        assertFalse(executor.executeMigration(1, "\\migrationscript.sql"));
+        assertEquals(1, TestUtil.getNumberRow("SELECT COUNT(*) FROM schema_version WHERE version = 1;"));
+    }
+
+    @Test
+    void executeMigration_ShouldNotRecordVersion_WhenScriptFailed() {
+        TestUtil.queryToDB("DROP TABLE IF EXISTS schema_version;");
+        assertThrows(DaoException.class, () -> executor.executeMigration(3, "\\invalidmigrationscript.sql"));
+        assertEquals(0, TestUtil.getNumberRow("SELECT COUNT(*) FROM schema_version;"));
+    }
+
+    @Test
+    void isSeedingCompleted_ShouldReturnTrue_WhenSeedingRecorded() {
+        TestUtil.executeScript("\\inittestdb.sql");
+        TestUtil.queryToDB("DROP TABLE IF EXISTS seed_state;");
+        executor.executeScript("migration/V4__create_seed_state.sql");
+        TestUtil.queryToDB("DELETE FROM seed_state;");
+        assertFalse(executor.isSeedingCompleted());
+        executor.recordSeedingCompleted(42);
+        assertTrue(executor.isSeedingCompleted());
+    }
+
+    @Test
+    void deleteUnfinishedSeeding_ShouldDeleteStudentsAndEnrolments_WhenSummon() {
+        TestUtil.executeScript("\\inittestdb.sql");
+        executor.deleteUnfinishedSeeding();
+        assertEquals(0, TestUtil.getNumberRow("SELECT COUNT(*) FROM students;"));
+        assertEquals(0, TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses;"));
+        assertEquals(3, TestUtil.getNumberRow("SELECT COUNT(*) FROM courses;"));
+    }
+
     @Test
     void executeScript_ShouldThrowDaoException_WhenConnectIsNot() {
         PGSimpleDataSource dataSource = new PGSimpleDataSource();
@@ -0,0 +1,45 @@
+package university.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SqlScriptParserTest {
+
+    @Test
+    void nextStatement_ShouldSplitStatementsAndDropComments_WhenScriptContainsComments() throws IOException {
+        String script = "-- header; comment\nCREATE TABLE a(id INT);\n/* block; comment */DROP TABLE a; ;\n"
+                + "SELECT 1 -- trailing comment\n";
+        assertEquals(Arrays.asList("CREATE TABLE a(id INT)", "DROP TABLE a", "SELECT 1"), parse(script));
+    }
+
+    @Test
+    void nextStatement_ShouldKeepSemicolonsAndCommentMarkers_WhenInsideQuotes() throws IOException {
+        String script = "INSERT INTO a VALUES('it''s; -- not a comment');SELECT \"odd;name\" FROM a;";
+        assertEquals(Arrays.asList("INSERT INTO a VALUES('it''s; -- not a comment')", "SELECT \"odd;name\" FROM a"),
+                parse(script));
+    }
+
+    @Test
+    void nextStatement_ShouldKeepDollarQuotedBody_WhenBodyContainsSemicolons() throws IOException {
+        String script = "CREATE FUNCTION f() RETURNS INT AS $body$ BEGIN RETURN 1; END; $body$ LANGUAGE plpgsql;"
+                + "SELECT $$a;b$$, price$1;";
+        assertEquals(Arrays.asList("CREATE FUNCTION f() RETURNS INT AS $body$ BEGIN RETURN 1; END; $body$ "
+                + "LANGUAGE plpgsql", "SELECT $$a;b$$, price$1"), parse(script));
+    }
+
+    private List<String> parse(String script) throws IOException {
+        SqlScriptParser parser = new SqlScriptParser(new StringReader(script));
+        List<String> statements = new ArrayList<>();
+        String statement;
+        while ((statement = parser.nextStatement()) != null) {
+            statements.add(statement);
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,141 @@
+package university.dao;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import university.dao.impl.StudentDaoImpl;
+import university.entity.Student;
+import university.exceptions.DaoException;
+import university.utils.TestUtil;
+
+class TransactionManagerTest {
+
+    private static final String COUNT_STUDENTS_QUERY = "SELECT COUNT(*) FROM students;";
+
+    private Connector connectorSpy;
+    private TransactionManager transactionManager;
+    private StudentDao studentDao;
+
+    @BeforeEach
+    void init() {
+        TestUtil.executeScript("\\inittestdb.sql");
+        connectorSpy = spy(new ConnectorH2("h2"));
+        transactionManager = new TransactionManager(connectorSpy);
+        studentDao = new StudentDaoImpl(transactionManager);
+    }
+
+    @Test
+    void inTransaction_ShouldCommitAllDaoCallsOnOneConnection_WhenWorkCompletes() {
+        int numberRowBefore = TestUtil.getNumberRow(COUNT_STUDENTS_QUERY);
+        transactionManager.inTransaction(() -> {
+            studentDao.save(createStudent("Bob"));
+            studentDao.save(createStudent("Tom"));
+            studentDao.findAll();
+        });
+        assertEquals(numberRowBefore + 2, TestUtil.getNumberRow(COUNT_STUDENTS_QUERY));
+        verify(connectorSpy, times(1)).getConnection();
+    }
+
+    @Test
+    void inTransaction_ShouldRollbackAllDaoCalls_WhenWorkThrowsException() {
+        int numberRowBefore = TestUtil.getNumberRow(COUNT_STUDENTS_QUERY);
+        assertThrows(IllegalStateException.class, () -> transactionManager.inTransaction(() -> {
+            studentDao.save(createStudent("Bob"));
+            throw new IllegalStateException();
+        }));
+        assertEquals(numberRowBefore, TestUtil.getNumberRow(COUNT_STUDENTS_QUERY));
+    }
+
+    @Test
+    void inTransaction_ShouldNotifyRollbackListenersOnce_WhenWorkThrowsException() {
+        AtomicInteger rollbacks = new AtomicInteger();
+        transactionManager.addRollbackListener(rollbacks::incrementAndGet);
+        transactionManager.inTransaction(() -> studentDao.findAll());
+        assertThrows(IllegalStateException.class, () -> transactionManager.inTransaction(() -> {
+            transactionManager.inTransaction(() -> {
+                throw new IllegalStateException();
+            });
+        }));
+        assertEquals(1, rollbacks.get());
+    }
+
+    @Test
+    void inTransaction_ShouldRollbackOuterTransaction_WhenNestedWorkFailed() {
+        int numberRowBefore = TestUtil.getNumberRow(COUNT_STUDENTS_QUERY);
+        assertThrows(DaoException.class, () -> transactionManager.inTransaction(() -> {
+            studentDao.save(createStudent("Bob"));
+            try {
+                transactionManager.inTransaction(() -> studentDao.save(Student.builder().build()));
+            } catch (DaoException e) {
+                studentDao.save(createStudent("Tom"));
+            }
+        }));
+        assertEquals(numberRowBefore, TestUtil.getNumberRow(COUNT_STUDENTS_QUERY));
+    }
+
+    @Test
+    void inTransaction_ShouldReturnWorkResult_WhenWorkIsSupplier() {
+        int numberStudents = transactionManager.inTransaction(() -> studentDao.findAll().size());
+        assertEquals(TestUtil.getNumberRow(COUNT_STUDENTS_QUERY), numberStudents);
+    }
+
+    @Test
+    void getConnection_ShouldKeepBoundConnectionOpen_WhenDaoClosesIt() {
+        transactionManager.inTransaction(() -> {
+            try {
+                Connection connection = transactionManager.getConnection();
+                connection.close();
+                assertFalse(connection.isClosed());
+                assertFalse(connection.getAutoCommit());
+                assertTrue(transactionManager.isActive());
+            } catch (SQLException e) {
+                throw new DaoException("Can't check bound connection", e);
+            }
+        });
+        assertFalse(transactionManager.isActive());
+    }
+
+    @Test
+    void setRollbackOnly_ShouldRollbackTransaction_WhenCalledInsideWork() {
+        int numberRowBefore = TestUtil.getNumberRow(COUNT_STUDENTS_QUERY);
+        assertThrows(DaoException.class, () -> transactionManager.inTransaction(() -> {
+            studentDao.save(createStudent("Bob"));
+            transactionManager.setRollbackOnly();
+        }));
+        assertEquals(numberRowBefore, TestUtil.getNumberRow(COUNT_STUDENTS_QUERY));
+    }
+
+    @Test
+    void setRollbackOnly_ShouldRollbackAndNotifyListenersOnce_WhenCalledInsideWork() throws SQLException {
+        Connection connection = spy(new ConnectorH2("h2").getConnection());
+        TransactionManager manager = new TransactionManager(() -> connection);
+        AtomicInteger rollbacks = new AtomicInteger();
+        manager.addRollbackListener(rollbacks::incrementAndGet);
+        assertThrows(DaoException.class, () -> manager.inTransaction(manager::setRollbackOnly));
+        verify(connection, times(1)).rollback();
+        assertEquals(1, rollbacks.get());
+    }
+
+    @Test
+    void setRollbackOnly_ShouldThrowIllegalStateException_WhenNoTransactionActive() {
+        assertThrows(IllegalStateException.class, () -> transactionManager.setRollbackOnly());
+    }
+
+    private Student createStudent(String firstName) {
+        return Student.builder()
+                .withGroupId(1)
+                .withFirstName(firstName)
+                .withLastName("Still")
+                .build();
+    }
+}
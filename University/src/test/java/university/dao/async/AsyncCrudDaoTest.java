@@ -0,0 +1,84 @@
+package university.dao.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import university.dao.CourseDao;
+import university.dao.StudentDao;
+import university.entity.Course;
+import university.entity.Student;
+import university.exceptions.DaoException;
+
+class AsyncCrudDaoTest {
+
+    private DaoExecutor executor;
+
+    @BeforeEach
+    void init() {
+        executor = new DaoExecutor(2);
+    }
+
+    @AfterEach
+    void close() {
+        executor.close();
+    }
+
+    @Test
+    void findById_ShouldReturnEntities_WhenLookupsRunConcurrently() {
+        StudentDao studentDaoMock = mock(StudentDao.class);
+        CourseDao courseDaoMock = mock(CourseDao.class);
+        Student student = Student.builder().withId(1).withFirstName("Bob").withLastName("Morris").build();
+        Course course = Course.builder().withId(1).withName("Math").withDescription("Mathematics").build();
+        when(studentDaoMock.findById(1)).thenReturn(Optional.of(student));
+        when(courseDaoMock.findByName("Math")).thenReturn(Optional.of(course));
+        CompletableFuture<Optional<Student>> foundStudent = new AsyncStudentDao(studentDaoMock, executor).findById(1);
+        CompletableFuture<Optional<Course>> foundCourse = new AsyncCourseDao(courseDaoMock, executor)
+                .findByName("Math");
+        assertEquals(Optional.of(student), foundStudent.join());
+        assertEquals(Optional.of(course), foundCourse.join());
+    }
+
+    @Test
+    void findById_ShouldCompleteExceptionally_WhenDaoThrowsDaoException() {
+        StudentDao studentDaoMock = mock(StudentDao.class);
+        DaoException exception = new DaoException("Can't return by id", null);
+        when(studentDaoMock.findById(1)).thenThrow(exception);
+        CompletableFuture<Optional<Student>> future = new AsyncStudentDao(studentDaoMock, executor).findById(1);
+        CompletionException thrown = assertThrows(CompletionException.class, future::join);
+        assertSame(exception, thrown.getCause());
+    }
+
+    @Test
+    void execute_ShouldRunTaskOnCallerThread_WhenExecutorSaturated() {
+        CountDownLatch release = new CountDownLatch(1);
+        try (DaoExecutor singleExecutor = new DaoExecutor(1)) {
+            int capacity = 1 + singleExecutor.getMaxConcurrency() * 4;
+            for (int i = 0; i < capacity; i++) {
+                singleExecutor.execute(() -> awaitQuietly(release));
+            }
+            Thread caller = Thread.currentThread();
+            Thread[] runner = new Thread[1];
+            singleExecutor.execute(() -> runner[0] = Thread.currentThread());
+            assertSame(caller, runner[0]);
+            release.countDown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package university.dao.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import university.dao.CourseDao;
+import university.entity.Course;
+
+class CachingCourseDaoTest {
+
+    private CourseDao courseDaoMock;
+    private CachingCourseDao courseDao;
+
+    @BeforeEach
+    void init() {
+        courseDaoMock = mock(CourseDao.class);
+        courseDao = new CachingCourseDao(courseDaoMock, new EntityCache<>(10, 1000), new EntityCache<>(10, 1000),
+                new EntityCache<>(10, 1000));
+    }
+
+    @Test
+    void findByName_ShouldQueryDaoOnce_WhenSameNameRequestedTwice() {
+        Course course = createCourse();
+        when(courseDaoMock.findByName("Law")).thenReturn(Optional.of(course));
+        assertEquals(Optional.of(course), courseDao.findByName("Law"));
+        assertEquals(Optional.of(course), courseDao.findByName("Law"));
+        verify(courseDaoMock, times(1)).findByName("Law");
+        assertEquals(1, courseDao.getHitCount());
+        assertEquals(1, courseDao.getMissCount());
+    }
+
+    @Test
+    void findAll_ShouldQueryDaoAgain_WhenCourseSavedBetweenCalls() {
+        List<Course> courses = new ArrayList<>();
+        courses.add(createCourse());
+        when(courseDaoMock.findAll()).thenReturn(courses);
+        courseDao.findAll();
+        courseDao.save(createCourse());
+        courseDao.findAll();
+        verify(courseDaoMock, times(2)).findAll();
+    }
+
+    @Test
+    void findById_ShouldQueryDaoAgain_WhenCourseDeletedBetweenCalls() {
+        when(courseDaoMock.findById(1)).thenReturn(Optional.of(createCourse()));
+        courseDao.findById(1);
+        courseDao.deleteById(1);
+        assertEquals(Optional.of(createCourse()), courseDao.findById(1));
+        verify(courseDaoMock, times(2)).findById(1);
+    }
+
+    @Test
+    void findById_ShouldQueryDaoAgain_WhenCoursesDeletedByIdsBetweenCalls() {
+        when(courseDaoMock.findById(1)).thenReturn(Optional.of(createCourse()));
+        courseDao.findById(1);
+        courseDao.deleteAllById(Collections.singletonList(2));
+        courseDao.findById(1);
+        verify(courseDaoMock).deleteAllById(Collections.singletonList(2));
+        verify(courseDaoMock, times(2)).findById(1);
+    }
+
+    @Test
+    void findAllByStudentId_ShouldDelegateToDao_WhenSummon() {
+        courseDao.findAllByStudentId(1);
+        courseDao.findAllByStudentId(1);
+        verify(courseDaoMock, times(2)).findAllByStudentId(1);
+    }
+
+    @Test
+    void findByName_ShouldQueryDaoAgain_WhenCourseWasNotFound() {
+        when(courseDaoMock.findByName("Law")).thenReturn(Optional.empty(), Optional.of(createCourse()));
+        courseDao.findByName("Law");
+        assertEquals(Optional.of(createCourse()), courseDao.findByName("Law"));
+        verify(courseDaoMock, times(2)).findByName("Law");
+    }
+
+    private Course createCourse() {
+        return Course.builder()
+                .withId(1)
+                .withName("Law")
+                .withDescription("test-courses")
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package university.dao.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import university.dao.GroupDao;
+import university.entity.Group;
+
+class CachingGroupDaoTest {
+
+    private GroupDao groupDaoMock;
+    private CachingGroupDao groupDao;
+
+    @BeforeEach
+    void init() {
+        groupDaoMock = mock(GroupDao.class);
+        groupDao = new CachingGroupDao(groupDaoMock, new EntityCache<>(10, 1000), new EntityCache<>(10, 1000));
+    }
+
+    @Test
+    void findById_ShouldQueryDaoOnce_WhenSameIdRequestedTwice() {
+        when(groupDaoMock.findById(1)).thenReturn(Optional.of(createGroup()));
+        groupDao.findById(1);
+        assertEquals(Optional.of(createGroup()), groupDao.findById(1));
+        verify(groupDaoMock, times(1)).findById(1);
+    }
+
+    @Test
+    void findAll_ShouldQueryDaoAgain_WhenGroupsSavedBetweenCalls() {
+        List<Group> groups = new ArrayList<>();
+        groups.add(createGroup());
+        when(groupDaoMock.findAll()).thenReturn(groups);
+        groupDao.findAll();
+        groupDao.saveAll(groups);
+        assertEquals(groups, groupDao.findAll());
+        verify(groupDaoMock, times(2)).findAll();
+        assertEquals(2, groupDao.getMissCount());
+    }
+
+    @Test
+    void findById_ShouldQueryDaoAgain_WhenGroupUpsertedBetweenCalls() {
+        when(groupDaoMock.findById(1)).thenReturn(Optional.of(createGroup()));
+        groupDao.findById(1);
+        groupDao.upsert(createGroup());
+        assertEquals(Optional.of(createGroup()), groupDao.findById(1));
+        verify(groupDaoMock, times(2)).findById(1);
+    }
+
+    @Test
+    void findAllBySizeEqualsOrLess_ShouldDelegateToDao_WhenSummon() {
+        groupDao.findAllBySizeEqualsOrLess(3);
+        groupDao.findAllBySizeEqualsOrLess(3);
+        verify(groupDaoMock, times(2)).findAllBySizeEqualsOrLess(3);
+    }
+
+    private Group createGroup() {
+        return Group.builder()
+                .withId(1)
+                .withName("AB-22")
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package university.dao.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EntityCacheTest {
+
+    private AtomicLong clock;
+    private AtomicInteger loads;
+    private EntityCache<Integer, String> cache;
+
+    @BeforeEach
+    void init() {
+        clock = new AtomicLong();
+        loads = new AtomicInteger();
+        cache = new EntityCache<>(2, 100, clock::get);
+    }
+
+    @Test
+    void get_ShouldLoadValueOnce_WhenKeyRequestedTwice() {
+        assertEquals("1", cache.get(1, this::load));
+        assertEquals("1", cache.get(1, this::load));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void get_ShouldEvictLeastRecentlyUsedKey_WhenCacheFull() {
+        cache.get(1, this::load);
+        cache.get(2, this::load);
+        cache.get(1, this::load);
+        cache.get(3, this::load);
+        cache.get(1, this::load);
+        cache.get(2, this::load);
+        assertEquals(4, loads.get());
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    void get_ShouldReloadValue_WhenTimeToLiveExpired() {
+        cache.get(1, this::load);
+        clock.set(101);
+        cache.get(1, this::load);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldNotStoreValue_WhenValueNotCacheable() {
+        cache.get(1, this::load, value -> false);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidateAll_ShouldRemoveAllEntries_WhenSummon() {
+        cache.get(1, this::load);
+        cache.invalidateAll();
+        cache.get(1, this::load);
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void isEnabled_ShouldReturnFalse_WhenPropertyNotExists() {
+        assertFalse(EntityCache.isEnabled("h2"));
+    }
+
+    @Test
+    void entityCache_ShouldThrowIllegalArgumentException_WhenInputSizeZero() {
+        assertThrows(IllegalArgumentException.class, () -> new EntityCache<>(0, 100));
+    }
+
+    private String load(Integer key) {
+        loads.incrementAndGet();
+        return String.valueOf(key);
+    }
+}
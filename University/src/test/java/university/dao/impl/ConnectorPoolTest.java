@@ -0,0 +1,177 @@
+package university.dao.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import university.dao.Connector;
+import university.dao.ConnectorH2;
+import university.exceptions.DaoException;
+
+class ConnectorPoolTest {
+
+    private Connector connectorSpy;
+    private ConnectorPool pool;
+
+    @BeforeEach
+    void init() {
+        connectorSpy = spy(new ConnectorH2("h2"));
+        pool = new ConnectorPool(connectorSpy, "h2");
+    }
+
+    @AfterEach
+    void closePool() {
+        pool.close();
+    }
+
+    @Test
+    void getConnection_ShouldReusePhysicalConnection_WhenPreviousConnectionClosed() throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            connection.createStatement().execute("SELECT 1");
+        }
+        try (Connection connection = pool.getConnection()) {
+            connection.createStatement().execute("SELECT 1");
+        }
+        verify(connectorSpy, times(1)).getConnection();
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    void getConnection_ShouldThrowDaoException_WhenPoolExhausted() throws SQLException {
+        try (Connection first = pool.getConnection(); Connection second = pool.getConnection()) {
+            assertEquals(2, pool.getActiveCount());
+            assertThrows(DaoException.class, () -> pool.getConnection());
+        }
+    }
+
+    @Test
+    void getConnection_ShouldReturnClosedHandle_WhenHandleWasClosed() throws SQLException {
+        Connection connection = pool.getConnection();
+        connection.close();
+        assertTrue(connection.isClosed());
+        assertThrows(SQLException.class, () -> connection.createStatement());
+    }
+
+    @Test
+    void getConnection_ShouldRollbackAndRestoreAutoCommit_WhenConnectionReturnedInTransaction()
+            throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            connection.setAutoCommit(false);
+        }
+        try (Connection connection = pool.getConnection()) {
+            assertTrue(connection.getAutoCommit());
+        }
+    }
+
+    @Test
+    void getConnection_ShouldOpenNewConnection_WhenIdleConnectionInvalid() throws SQLException {
+        Connection physicalMock = mock(Connection.class);
+        when(physicalMock.getAutoCommit()).thenReturn(true);
+        when(physicalMock.isValid(5)).thenReturn(false);
+        Connector connectorMock = mock(Connector.class);
+        when(connectorMock.getConnection()).thenReturn(physicalMock);
+        try (ConnectorPool mockPool = new ConnectorPool(connectorMock, "h2")) {
+            mockPool.getConnection().close();
+            mockPool.getConnection().close();
+            verify(connectorMock, times(2)).getConnection();
+            verify(physicalMock).close();
+        }
+    }
+
+    @Test
+    void prepareStatement_ShouldReuseCachedStatement_WhenSameQueryPreparedOnNextBorrow() throws SQLException {
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = pool.getConnection();
+                    PreparedStatement statement = connection.prepareStatement("SELECT ?")) {
+                statement.setInt(1, i);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    assertEquals(i, resultSet.getInt(1));
+                }
+            }
+        }
+        assertEquals(1, pool.getStatementCacheMissCount());
+        assertEquals(2, pool.getStatementCacheHitCount());
+    }
+
+    @Test
+    void prepareStatement_ShouldResetStatementSettings_WhenCachedStatementBorrowedAgain() throws SQLException {
+        try (Connection connection = pool.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+            statement.setFetchSize(7);
+            statement.setMaxRows(1);
+            statement.setQueryTimeout(3);
+        }
+        try (Connection connection = pool.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+            assertEquals(1, pool.getStatementCacheHitCount());
+            assertNotEquals(7, statement.getFetchSize());
+            assertEquals(0, statement.getMaxRows());
+            assertEquals(0, statement.getQueryTimeout());
+        }
+    }
+
+    @Test
+    void prepareStatement_ShouldNotCacheStatement_WhenSettingWithoutDefaultChanged() throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+                statement.closeOnCompletion();
+            }
+            connection.prepareStatement("SELECT 1").close();
+        }
+        assertEquals(2, pool.getStatementCacheMissCount());
+        assertEquals(0, pool.getStatementCacheHitCount());
+    }
+
+    @Test
+    void prepareStatement_ShouldPrepareSeparateStatement_WhenGeneratedKeysRequested() throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            connection.prepareStatement("SELECT 1").close();
+            connection.prepareStatement("SELECT 1", Statement.RETURN_GENERATED_KEYS).close();
+            connection.prepareStatement("SELECT 1").close();
+        }
+        assertEquals(2, pool.getStatementCacheMissCount());
+        assertEquals(1, pool.getStatementCacheHitCount());
+    }
+
+    @Test
+    void prepareStatement_ShouldThrowSQLException_WhenStatementUsedAfterClose() throws SQLException {
+        try (Connection connection = pool.getConnection()) {
+            PreparedStatement statement = connection.prepareStatement("SELECT 1");
+            statement.close();
+            assertTrue(statement.isClosed());
+            assertThrows(SQLException.class, () -> statement.executeQuery());
+        }
+    }
+
+    @Test
+    void getConnection_ShouldThrowDaoException_WhenPoolClosed() {
+        pool.close();
+        assertThrows(DaoException.class, () -> pool.getConnection());
+    }
+
+    @Test
+    void isEnabled_ShouldReturnFalse_WhenPropertyNotExists() {
+        assertFalse(ConnectorPool.isEnabled("h2"));
+    }
+
+    @Test
+    void connectorPool_ShouldThrowIllegalArgumentException_WhenPropertyFileNotExists() {
+        assertThrows(IllegalArgumentException.class, () -> new ConnectorPool(connectorSpy, "notExistPropertiesPart"));
+    }
+}
@@ -0,0 +1,59 @@
+package university.dao.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import university.dao.BulkLoader;
+import university.dao.ConnectorH2;
+import university.dao.LoadReport;
+import university.exceptions.DaoException;
+import university.utils.TestUtil;
+
+class CopyBulkLoaderTest {
+
+    private static final List<String> STUDENT_COLUMNS = Arrays.asList("group_id", "first_name", "last_name");
+
+    private static BulkLoader bulkLoader;
+
+    @BeforeAll
+    static void init() {
+        bulkLoader = new CopyBulkLoader(new ConnectorH2("h2"));
+    }
+
+    @BeforeEach
+    void createTablesAndData() {
+        TestUtil.executeScript("\\inittestdb.sql");
+    }
+
+    @Test
+    void load_ShouldInsertAllRowsAndReportThem_WhenDatabaseIsNotPostgres() {
+        int numberRowBeforeLoad = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
+        Stream<Object[]> rows = Stream.of(new Object[] { 1, "Bob", "Still" }, new Object[] { null, "Ann", "Hill" });
+        LoadReport report = bulkLoader.load("students", STUDENT_COLUMNS, rows);
+        int numberRowAfterLoad = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
+        assertEquals(numberRowBeforeLoad + 2, numberRowAfterLoad);
+        assertEquals(2, report.getRows());
+        assertEquals("students", report.getTable());
+    }
+
+    @Test
+    void load_ShouldRollbackAllRows_WhenOneRowInvalid() {
+        int numberRowBeforeLoad = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
+        Stream<Object[]> rows = Stream.of(new Object[] { 1, "Bob", "Still" }, new Object[] { 1, null, "Hill" });
+        assertThrows(DaoException.class, () -> bulkLoader.load("students", STUDENT_COLUMNS, rows));
+        int numberRowAfterLoad = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
+        assertEquals(numberRowBeforeLoad, numberRowAfterLoad);
+    }
+
+    @Test
+    void load_ShouldThrowDaoException_WhenConnectorNull() {
+        BulkLoader bulkLoader = new CopyBulkLoader(null);
+        assertThrows(DaoException.class, () -> bulkLoader.load("students", STUDENT_COLUMNS, Stream.empty()));
+    }
+}
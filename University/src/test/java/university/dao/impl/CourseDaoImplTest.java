@@ -2,17 +2,26 @@ package university.dao.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import university.dao.Connector;
 import university.dao.ConnectorH2;
 import university.entity.Course;
+import university.entity.EntitySummary;
 import university.exceptions.DaoException;
 import university.utils.TestUtil;
 
@@ -56,6 +65,43 @@ class CourseDaoImplTest {
         assertThrows(DaoException.class, () -> courseDao.save(null));
     }
 
+    @Test
+    void saveAll_ShouldRollbackAllCourses_WhenOneCourseInvalid() {
+        int numberRowBeforeSave = TestUtil.getNumberRow("SELECT COUNT(*) FROM courses;");
+        List<Course> courses = new ArrayList<>();
+        courses.add(Course.builder().withName("Test course").withDescription("Test description").build());
+        courses.add(Course.builder().withName(null).build());
+        assertThrows(DaoException.class, () -> courseDao.saveAll(courses));
+        int numberRowAfterSave = TestUtil.getNumberRow("SELECT COUNT(*) FROM courses;");
+        assertEquals(numberRowBeforeSave, numberRowAfterSave);
+    }
+
+    @Test
+    void saveAll_ShouldThrowDaoException_WhenInputNull() {
+        assertThrows(DaoException.class, () -> courseDao.saveAll(null));
+    }
+
+    @Test
+    void upsertAll_ShouldUpdateExistingCoursesByName_WhenCoursesWithSameNameExist() {
+        List<Course> courses = new ArrayList<>();
+        courses.add(Course.builder().withName("Law").withDescription("New description").build());
+        courses.add(Course.builder().withName("Test course").withDescription("Test description").build());
+        List<Course> expected = new ArrayList<>();
+        expected.add(Course.builder().withId(1).withName("Law").withDescription("New description").build());
+        expected.add(Course.builder().withId(4).withName("Test course").withDescription("Test description").build());
+        assertEquals(expected, courseDao.upsertAll(courses));
+        assertEquals(expected, courseDao.upsertAll(courses));
+        assertEquals(4, TestUtil.getNumberRow("SELECT COUNT(*) FROM courses;"));
+    }
+
+    @Test
+    void upsert_ShouldThrowDaoException_WhenInputInvalidCourse() {
+        Course invalidCourse = Course.builder()
+                .withName("Test course")
+                .build();
+        assertThrows(DaoException.class, () -> courseDao.upsert(invalidCourse));
+    }
+
     @Test
     void findById_ShouldReturnEmptyOptional_WhenInputIdNotExists() {
         Optional<Course> expected = Optional.empty();
@@ -117,6 +163,12 @@ class CourseDaoImplTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void findAllAfter_ShouldThrowDaoException_WhenConnectNull() {
+        CourseDaoImpl courseDaoWithFakeConnector = new CourseDaoImpl(null);
+        assertThrows(DaoException.class, () -> courseDaoWithFakeConnector.findAllAfter(1, 2));
+    }
+
     @Test
     void deleteById_ShouldDeleteCourseWithInputId_WhenThisCourseExists() {
         int numberRowBeforeDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM courses;");
@@ -125,6 +177,35 @@ class CourseDaoImplTest {
         assertEquals(numberRowBeforeDelete - 1, numberRowAfterDelete);
     }
     
+    @Test
+    void findAllById_ShouldReturnCoursesInInputOrder_WhenInputIds() {
+        List<Course> courses = courseDao.findAll();
+        List<Course> expected = Arrays.asList(courses.get(2), courses.get(0));
+        assertEquals(expected, courseDao.findAllById(Arrays.asList(3, 1)));
+    }
+
+    @Test
+    void findAllSummaries_ShouldReturnIdAndNameOfEveryCourse_WhenCoursesTableNotEmpty() {
+        List<EntitySummary> expected = courseDao.findAll().stream()
+                .map(course -> EntitySummary.builder().withId(course.getCourseId()).withName(course.getName()).build())
+                .collect(Collectors.toList());
+        assertEquals(expected, courseDao.findAllSummaries());
+    }
+
+    @Test
+    void deleteAllById_ShouldDeleteCoursesWithInputIds_WhenTheseCoursesExist() {
+        int numberRowBeforeDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM courses;");
+        courseDao.deleteAllById(Arrays.asList(1, 2));
+        int numberRowAfterDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM courses;");
+        assertEquals(numberRowBeforeDelete - 2, numberRowAfterDelete);
+    }
+
+    @Test
+    void deleteAllById_ShouldThrowDaoException_WhenConnectNull() {
+        CourseDaoImpl courseDaoWithFakeConnector = new CourseDaoImpl(null);
+        assertThrows(DaoException.class, () -> courseDaoWithFakeConnector.deleteAllById(Arrays.asList(1)));
+    }
+
     @Test
     void deleteById_ShouldThrowDaoException_WhenConnectNull() {
         CourseDaoImpl courseDaoWithFakeConnector = new CourseDaoImpl(null);
@@ -170,6 +251,30 @@ class CourseDaoImplTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void findAllByStudentId_ShouldUseSingleConnection_WhenStudentHasSeveralCourses() {
+        Connector connectorSpy = spy(new ConnectorH2("h2"));
+        CourseDaoImpl courseDao = new CourseDaoImpl(connectorSpy);
+        courseDao.findAllByStudentId(1);
+        verify(connectorSpy, times(1)).getConnection();
+    }
+
+    @Test
+    void findAllByStudentIds_ShouldReturnCoursesOfEveryStudent_WhenInputStudentIds() {
+        Map<Integer, List<Course>> expected = new LinkedHashMap<>();
+        expected.put(1, createCourses());
+        expected.put(2, createCourses().subList(0, 1));
+        expected.put(5, new ArrayList<>());
+        Map<Integer, List<Course>> actual = courseDao.findAllByStudentIds(Arrays.asList(1, 2, 5));
+        assertEquals(expected, actual);
+        assertSame(actual.get(1).get(0), actual.get(2).get(0));
+    }
+
+    @Test
+    void findAllByStudentIds_ShouldThrowDaoException_WhenInputNull() {
+        assertThrows(DaoException.class, () -> courseDao.findAllByStudentIds(null));
+    }
+
     private List<Course> createCourses() {
         List<Course> courses = new ArrayList<>();
         Course course = Course.builder()
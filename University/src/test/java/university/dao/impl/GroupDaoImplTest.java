@@ -3,9 +3,15 @@ package university.dao.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -56,6 +62,78 @@ class GroupDaoImplTest {
         assertThrows(DaoException.class, () -> groupDao.save(null));
     }
 
+    @Test
+    void saveAll_ShouldSaveAllGroups_WhenNumberGroupsMoreBatchSize() {
+        GroupDaoImpl groupDao = new GroupDaoImpl(new ConnectorH2("h2"));
+        groupDao.setBatchSize(2);
+        List<Group> groups = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            groups.add(Group.builder().withName("GR-" + i).build());
+        }
+        List<Group> savedGroups = groupDao.saveAll(groups);
+        assertEquals(5, savedGroups.size());
+        assertEquals(Group.builder().withId(7).withName("GR-4").build(), savedGroups.get(4));
+        assertEquals(7, TestUtil.getNumberRow("SELECT COUNT(*) FROM groups;"));
+    }
+
+    @Test
+    void saveAll_ShouldReturnEmptyList_WhenInputEmptyList() {
+        List<Group> expected = new ArrayList<>();
+        List<Group> actual = groupDao.saveAll(new ArrayList<>());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void setBatchSize_ShouldThrowIllegalArgumentException_WhenInputZero() {
+        assertThrows(IllegalArgumentException.class, () -> groupDao.setBatchSize(0));
+    }
+
+    @Test
+    void upsertAll_ShouldNotDuplicateGroups_WhenGroupsWithSameNameExist() {
+        List<Group> groups = new ArrayList<>();
+        groups.add(Group.builder().withName("FR-33").build());
+        groups.add(Group.builder().withName("DS-45").build());
+        groups.add(Group.builder().withName("DS-45").build());
+        List<Group> expected = new ArrayList<>();
+        expected.add(Group.builder().withId(2).withName("FR-33").build());
+        expected.add(Group.builder().withId(3).withName("DS-45").build());
+        expected.add(Group.builder().withId(3).withName("DS-45").build());
+        assertEquals(expected, groupDao.upsertAll(groups));
+        assertEquals(expected, groupDao.upsertAll(groups));
+        assertEquals(3, TestUtil.getNumberRow("SELECT COUNT(*) FROM groups;"));
+    }
+
+    @Test
+    void upsertAll_ShouldReturnGroupsWithIds_WhenDriverDoesNotSupportArrays() {
+        GroupDaoImpl noArrayGroupDao = new GroupDaoImpl(TestUtil.createNoArrayConnector());
+        noArrayGroupDao.setBatchSize(1);
+        List<Group> groups = Arrays.asList(Group.builder().withName("FR-33").build(),
+                Group.builder().withName("DS-45").build());
+        List<Group> expected = Arrays.asList(Group.builder().withId(2).withName("FR-33").build(),
+                Group.builder().withId(3).withName("DS-45").build());
+        assertEquals(expected, noArrayGroupDao.upsertAll(groups));
+    }
+
+    @Test
+    void upsertAll_ShouldThrowDaoExceptionAndRollBack_WhenUpsertedGroupNotReadBack() {
+        GroupDaoImpl blindGroupDao = new GroupDaoImpl(new ConnectorH2("h2")) {
+
+            @Override
+            protected String getFindAllByNaturalKeyQuery() {
+                return "SELECT group_id, group_name FROM groups WHERE 1 = 0 AND group_name = ANY(?);";
+            }
+        };
+        int numberRowBeforeUpsert = TestUtil.getNumberRow("SELECT COUNT(*) FROM groups;");
+        assertThrows(DaoException.class,
+                () -> blindGroupDao.upsertAll(Arrays.asList(Group.builder().withName("DS-45").build())));
+        assertEquals(numberRowBeforeUpsert, TestUtil.getNumberRow("SELECT COUNT(*) FROM groups;"));
+    }
+
+    @Test
+    void upsertAll_ShouldThrowDaoException_WhenInputNull() {
+        assertThrows(DaoException.class, () -> groupDao.upsertAll(null));
+    }
+
     @Test
     void findById_ShouldReturnEmptyOptional_WhenInputIdNotExists() {
         Optional<Group> expected = Optional.empty();
@@ -117,6 +195,13 @@ class GroupDaoImplTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void findAllAfter_ShouldReturnGroupsAfterInputId_WhenInputExistentId() {
+        List<Group> expected = createGroups().subList(1, 2);
+        List<Group> actual = groupDao.findAllAfter(1, 5);
+        assertEquals(expected, actual);
+    }
+
     @Test
     void deleteById_ShouldDeleteGroupWithInputId_WhenThisGroupExists() {
         int numberRowBeforeDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM groups;");
@@ -125,6 +210,21 @@ class GroupDaoImplTest {
         assertEquals(numberRowBeforeDelete - 1, numberRowAfterDelete);
     }
 
+    @Test
+    void findAllById_ShouldReturnGroupsInInputOrder_WhenInputIds() {
+        List<Group> groups = groupDao.findAll();
+        List<Group> expected = Arrays.asList(groups.get(1), groups.get(0));
+        assertEquals(expected, groupDao.findAllById(Arrays.asList(2, 1)));
+    }
+
+    @Test
+    void deleteAllById_ShouldDeleteGroupsWithInputIds_WhenTheseGroupsExist() {
+        int numberRowBeforeDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM groups;");
+        groupDao.deleteAllById(Arrays.asList(1, 2));
+        int numberRowAfterDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM groups;");
+        assertEquals(numberRowBeforeDelete - 2, numberRowAfterDelete);
+    }
+
     @Test
     void findAllBySizeEqualsOrLess_ShouldReturnExpectedGroups_WhenInputGroupSizeEqualsExistGroupSize() {
         List<Group> expected = createGroups();
@@ -146,6 +246,35 @@ class GroupDaoImplTest {
         assertEquals(expected, actual);
     }
     
+    @Test
+    void findAllBySizeEqualsOrLess_ShouldReturnEmptyGroup_WhenGroupHasNoStudents() {
+        TestUtil.queryToDB("INSERT INTO groups VALUES(3, 'DS-45');");
+        List<Group> expected = new ArrayList<>();
+        expected.add(Group.builder().withId(3).withName("DS-45").build());
+        List<Group> actual = groupDao.findAllBySizeEqualsOrLess(2);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void countStudentsBySizeEqualsOrLess_ShouldReturnGroupsWithStudentsCount_WhenInputGroupSize() {
+        TestUtil.queryToDB("DELETE FROM students WHERE student_id = 6;");
+        Map<Group, Integer> expected = new LinkedHashMap<>();
+        List<Group> groups = createGroups();
+        expected.put(groups.get(0), 3);
+        expected.put(groups.get(1), 2);
+        Map<Group, Integer> actual = groupDao.countStudentsBySizeEqualsOrLess(3);
+        assertEquals(expected, actual);
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+    }
+
+    @Test
+    void findAllBySizeEqualsOrLess_ShouldUseSingleConnection_WhenSeveralGroupsMatch() {
+        Connector connectorSpy = spy(new ConnectorH2("h2"));
+        GroupDaoImpl groupDao = new GroupDaoImpl(connectorSpy);
+        groupDao.findAllBySizeEqualsOrLess(10);
+        verify(connectorSpy, times(1)).getConnection();
+    }
+
     @Test
     void findAllBySizeEqualsOrLess_ShouldThrowDaoException_WhenConnectorNull() {        
         GroupDaoImpl groupDao = new GroupDaoImpl(null);
@@ -1,18 +1,38 @@
 package university.dao.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import university.dao.Connector;
 import university.dao.ConnectorH2;
+import university.entity.Course;
+import university.entity.EntitySummary;
 import university.entity.Student;
 import university.exceptions.DaoException;
 import university.utils.TestUtil;
@@ -57,6 +77,19 @@ class StudentDaoImplTest {
         assertThrows(DaoException.class, () -> studentDao.save(null));
     }
 
+    @Test
+    void saveAll_ShouldReturnStudentsWithGeneratedId_WhenInputValidStudents() {
+        List<Student> students = new ArrayList<>();
+        students.add(Student.builder().withGroupId(1).withFirstName("Bob").withLastName("Still").build());
+        students.add(Student.builder().withGroupId(2).withFirstName("Ann").withLastName("Hill").build());
+        List<Student> expected = new ArrayList<>();
+        expected.add(Student.builder().withId(7).withGroupId(1).withFirstName("Bob").withLastName("Still").build());
+        expected.add(Student.builder().withId(8).withGroupId(2).withFirstName("Ann").withLastName("Hill").build());
+        List<Student> actual = studentDao.saveAll(students);
+        assertEquals(expected, actual);
+        assertEquals(expected, studentDao.findAll(2, 6));
+    }
+
     @Test
     void findById_ShouldReturnExpectedStudent_WhenInputExistentId() {
         Student expected = createStudent();
@@ -94,6 +127,67 @@ class StudentDaoImplTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void streamAll_ShouldReturnExpectedStudents_WhenStudentsTableNotEmpty() {
+        studentDao.setFetchSize(2);
+        List<Student> expected = createStudents();
+        try (Stream<Student> students = studentDao.streamAll()) {
+            List<Student> actual = students.collect(Collectors.toList());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void streamAll_ShouldCloseConnection_WhenStreamClosed() throws SQLException {
+        Connector h2Connector = new ConnectorH2("h2");
+        List<Connection> connections = new ArrayList<>();
+        StudentDaoImpl studentDao = new StudentDaoImpl(() -> {
+            Connection connection = h2Connector.getConnection();
+            connections.add(connection);
+            return connection;
+        });
+        Stream<Student> students = studentDao.streamAll();
+        assertEquals(createStudent(), students.skip(1).findFirst().get());
+        assertFalse(connections.get(0).isClosed());
+        students.close();
+        assertTrue(connections.get(0).isClosed());
+    }
+
+    @Test
+    void streamAll_ShouldRestoreAndCloseConnection_WhenStatementCanNotBePrepared() throws SQLException {
+        Connection connectionMock = mock(Connection.class);
+        when(connectionMock.getAutoCommit()).thenReturn(true, false);
+        when(connectionMock.prepareStatement(anyString(), anyInt(), anyInt())).thenThrow(new SQLException());
+        StudentDaoImpl studentDao = new StudentDaoImpl(() -> connectionMock);
+        assertThrows(DaoException.class, () -> studentDao.streamAll());
+        verify(connectionMock).rollback();
+        verify(connectionMock).setAutoCommit(true);
+        verify(connectionMock).close();
+    }
+
+    @Test
+    void streamAll_ShouldCloseStatement_WhenQueryFails() throws SQLException {
+        Connection connectionMock = mock(Connection.class);
+        PreparedStatement statementMock = mock(PreparedStatement.class);
+        when(connectionMock.getAutoCommit()).thenReturn(false);
+        when(connectionMock.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statementMock);
+        when(statementMock.executeQuery()).thenThrow(new SQLException());
+        StudentDaoImpl studentDao = new StudentDaoImpl(() -> connectionMock);
+        assertThrows(DaoException.class, () -> studentDao.streamAll());
+        verify(statementMock).close();
+        verify(connectionMock, never()).rollback();
+        verify(connectionMock).close();
+    }
+
+    @Test
+    void streamSummaries_ShouldReturnIdAndFullNameOfEveryStudent_WhenStudentsTableNotEmpty() {
+        try (Stream<EntitySummary> summaries = studentDao.streamSummaries()) {
+            List<EntitySummary> actual = summaries.collect(Collectors.toList());
+            assertEquals(6, actual.size());
+            assertEquals(EntitySummary.builder().withId(2).withName("Rob Brown").build(), actual.get(1));
+        }
+    }
+
     @Test
     void findAll_ShouldReturnExpectedStudents_WhenInputLimitAndOffset() {
         List<Student> expected = createStudents();
@@ -109,6 +203,78 @@ class StudentDaoImplTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void findAllAfter_ShouldReturnFirstStudents_WhenInputLastIdNull() {
+        List<Student> expected = createStudents().subList(0, 2);
+        List<Student> actual = studentDao.findAllAfter(null, 2);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void findAllAfter_ShouldReturnNextPage_WhenInputLastIdOfPreviousPage() {
+        TestUtil.queryToDB("DELETE FROM students WHERE student_id = 4;");
+        List<Student> expected = createStudents().subList(4, 6);
+        List<Student> actual = studentDao.findAllAfter(3, 2);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void findAllAfter_ShouldReturnEmptyList_WhenInputLastIdOfLastStudent() {
+        List<Student> expected = new ArrayList<>();
+        List<Student> actual = studentDao.findAllAfter(6, 2);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void findByIdWithCourses_ShouldReturnStudentWithAllItsCourses_WhenStudentHasCourses() {
+        Student student = studentDao.findByIdWithCourses(1).get();
+        List<Integer> coursesId = student.getCourses().stream()
+                .map(Course::getCourseId)
+                .collect(Collectors.toList());
+        assertEquals("Bob", student.getFirstName());
+        assertEquals(Arrays.asList(1, 2, 3), coursesId);
+    }
+
+    @Test
+    void findByIdWithCourses_ShouldReturnStudentWithoutCourses_WhenStudentHasNoCourses() {
+        assertTrue(studentDao.findByIdWithCourses(6).get().getCourses().isEmpty());
+    }
+
+    @Test
+    void findByIdWithCourses_ShouldReturnEmptyOptional_WhenStudentNotExists() {
+        assertFalse(studentDao.findByIdWithCourses(100).isPresent());
+    }
+
+    @Test
+    void findAllWithCourses_ShouldReturnPageOfStudentsSharingCourses_WhenInputLastIdAndLimit() {
+        List<Student> students = studentDao.findAllWithCourses(1, 2);
+        assertEquals(Arrays.asList(2, 3), students.stream().map(Student::getStudentId).collect(Collectors.toList()));
+        assertSame(students.get(0).getCourses().iterator().next(), students.get(1).getCourses().iterator().next());
+    }
+
+    @Test
+    void findAllById_ShouldReturnExistingStudentsInInputOrder_WhenInputIds() {
+        List<Integer> actual = studentDao.findAllById(Arrays.asList(5, 100, 2, 5)).stream()
+                .map(Student::getStudentId)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(5, 2), actual);
+    }
+
+    @Test
+    void findAllById_ShouldReturnEmptyList_WhenInputIdsEmpty() {
+        assertTrue(studentDao.findAllById(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    void findAllById_ShouldReturnExistingStudentsInInputOrder_WhenDriverDoesNotSupportArrays() {
+        StudentDaoImpl noArrayStudentDao = new StudentDaoImpl(TestUtil.createNoArrayConnector());
+        noArrayStudentDao.setBatchSize(2);
+        List<Integer> actual = noArrayStudentDao.findAllById(Arrays.asList(5, 100, 2, 5, 3)).stream()
+                .map(Student::getStudentId)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(5, 2, 3), actual);
+    }
+
     @Test
     void deleteById_ShouldDeleteStudentWithInputId_WhenThisStudentExists() {
         int numberRowBeforeDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
@@ -116,6 +282,66 @@ class StudentDaoImplTest {
         int numberRowAfterDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
         assertEquals(numberRowBeforeDelete - 1, numberRowAfterDelete);
     }
+
+    @Test
+    void deleteAllById_ShouldDeleteStudentsWithInputIds_WhenTheseStudentsExist() {
+        int numberRowBeforeDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
+        studentDao.deleteAllById(Arrays.asList(1, 2, 100));
+        int numberRowAfterDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
+        assertEquals(numberRowBeforeDelete - 2, numberRowAfterDelete);
+    }
+
+    @Test
+    void deleteAllById_ShouldDeleteStudentsWithInputIds_WhenDriverDoesNotSupportArrays() {
+        StudentDaoImpl noArrayStudentDao = new StudentDaoImpl(TestUtil.createNoArrayConnector());
+        noArrayStudentDao.setBatchSize(2);
+        int numberRowBeforeDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
+        noArrayStudentDao.deleteAllById(Arrays.asList(1, 2, 100));
+        int numberRowAfterDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
+        assertEquals(numberRowBeforeDelete - 2, numberRowAfterDelete);
+    }
+
+    @Test
+    void deleteAllById_ShouldRollBackEarlierChunks_WhenLaterChunkFails() {
+        Connector noArrayConnector = TestUtil.createNoArrayConnector();
+        StudentDaoImpl failingStudentDao = new StudentDaoImpl(() -> {
+            Connection connection = noArrayConnector.getConnection();
+            try {
+                doCallRealMethod().doThrow(new SQLException("Second chunk failed")).when(connection)
+                        .prepareStatement(anyString());
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return connection;
+        });
+        failingStudentDao.setBatchSize(1);
+        int numberRowBeforeDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
+        assertThrows(DaoException.class, () -> failingStudentDao.deleteAllById(Arrays.asList(1, 2)));
+        assertEquals(numberRowBeforeDelete, TestUtil.getNumberRow("SELECT COUNT(*) FROM students;"));
+    }
+
+    @Test
+    void deleteAllById_ShouldDeleteNothing_WhenInputIdsEmpty() {
+        int numberRowBeforeDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
+        studentDao.deleteAllById(Collections.emptyList());
+        int numberRowAfterDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM students;");
+        assertEquals(numberRowBeforeDelete, numberRowAfterDelete);
+    }
+
+    @Test
+    void findAllById_ShouldThrowDaoException_WhenInputNull() {
+        assertThrows(DaoException.class, () -> studentDao.findAllById(null));
+    }
+
+    @Test
+    void deleteAllById_ShouldThrowDaoException_WhenInputNull() {
+        assertThrows(DaoException.class, () -> studentDao.deleteAllById(null));
+    }
+
+    @Test
+    void deleteFromCourses_ShouldThrowDaoException_WhenInputNull() {
+        assertThrows(DaoException.class, () -> studentDao.deleteFromCourses(1, null));
+    }
     
     @Test
     void findAllByCourse_ShouldReturnExpectedStudents_WhenInputCourseName() {
@@ -150,6 +376,34 @@ class StudentDaoImplTest {
         assertEquals(numberRowBeforeDelete - 1, numberRowAfterDelete);
     }
 
+    @Test
+    void deleteFromCourses_ShouldRemoveStudentFromInputCoursesOnly_WhenInputCoursesId() {
+        studentDao.deleteFromCourses(1, Arrays.asList(1, 3));
+        assertEquals(1, TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses WHERE student_id = 1;"));
+        assertEquals(1, TestUtil.getNumberRow(
+                "SELECT COUNT(*) FROM students_to_courses WHERE student_id = 1 AND course_id = 2;"));
+    }
+
+    @Test
+    void deleteFromCourses_ShouldRemoveStudentFromInputCoursesOnly_WhenDriverDoesNotSupportArrays() {
+        StudentDaoImpl noArrayStudentDao = new StudentDaoImpl(TestUtil.createNoArrayConnector());
+        noArrayStudentDao.setBatchSize(1);
+        noArrayStudentDao.deleteFromCourses(1, Arrays.asList(1, 3));
+        assertEquals(1, TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses WHERE student_id = 1;"));
+        assertEquals(1, TestUtil.getNumberRow(
+                "SELECT COUNT(*) FROM students_to_courses WHERE student_id = 1 AND course_id = 2;"));
+    }
+
+    @Test
+    void removeAllFromCourse_ShouldRemoveEveryStudentFromCourse_WhenInputCourseId() {
+        int numberRowBeforeDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses;");
+        int numberRowOnCourse = TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses WHERE course_id = 1;");
+        studentDao.removeAllFromCourse(1);
+        int numberRowAfterDelete = TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses;");
+        assertEquals(numberRowBeforeDelete - numberRowOnCourse, numberRowAfterDelete);
+        assertEquals(0, TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses WHERE course_id = 1;"));
+    }
+
     @Test
     void insertStudentToCourses_ShouldAddStudentToCourse_WhenInputValidStudentAndCourseid() {
         int numberRowBeforeAdd = TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses WHERE course_id = 3;");
@@ -169,6 +423,50 @@ class StudentDaoImplTest {
         assertThrows(DaoException.class, () -> studentDao.insertStudentToCourses(student, coursesId));
     }
     
+    @Test
+    void insertEnrolments_ShouldAddAllEnrolmentsInSeveralBatches_WhenInputSeveralStudents() {
+        StudentDaoImpl smallBatchDao = new StudentDaoImpl(new ConnectorH2("h2"));
+        smallBatchDao.setBatchSize(2);
+        int numberRowBeforeAdd = TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses;");
+        Map<Integer, List<Integer>> enrolments = new LinkedHashMap<>();
+        enrolments.put(5, Arrays.asList(1, 2, 3));
+        enrolments.put(6, Arrays.asList(2, 3));
+        smallBatchDao.insertEnrolments(enrolments);
+        int numberRowAfterAdd = TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses;");
+        assertEquals(numberRowBeforeAdd + 5, numberRowAfterAdd);
+    }
+
+    @Test
+    void insertEnrolments_ShouldSkipExistingEnrolments_WhenStudentAlreadyHasCourse() {
+        int numberRowBeforeAdd = TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses;");
+        studentDao.insertEnrolments(Collections.singletonMap(2, Arrays.asList(1, 2)));
+        int numberRowAfterAdd = TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses;");
+        assertEquals(numberRowBeforeAdd + 1, numberRowAfterAdd);
+    }
+
+    @Test
+    void insertEnrolments_ShouldThrowDaoExceptionAndAddNothing_WhenInputCourseNotExists() {
+        int numberRowBeforeAdd = TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses;");
+        Map<Integer, List<Integer>> enrolments = new LinkedHashMap<>();
+        enrolments.put(5, Arrays.asList(1, 2));
+        enrolments.put(6, Arrays.asList(100));
+        assertThrows(DaoException.class, () -> studentDao.insertEnrolments(enrolments));
+        int numberRowAfterAdd = TestUtil.getNumberRow("SELECT COUNT(*) FROM students_to_courses;");
+        assertEquals(numberRowBeforeAdd, numberRowAfterAdd);
+    }
+
+    @Test
+    void insertEnrolments_ShouldThrowDaoException_WhenInputNull() {
+        assertThrows(DaoException.class, () -> studentDao.insertEnrolments(null));
+    }
+
+    @Test
+    void insertEnrolments_ShouldNotConnect_WhenInputEmpty() {
+        Connector connectorMock = mock(Connector.class);
+        new StudentDaoImpl(connectorMock).insertEnrolments(new LinkedHashMap<>());
+        verify(connectorMock, never()).getConnection();
+    }
+
     @Test
     void findAllByCourse_ShouldThrowDaoException_WhenConnectIsNot() {
         Connector connectorMock = mock(Connector.class);
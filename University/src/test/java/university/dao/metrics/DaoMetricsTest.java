@@ -0,0 +1,50 @@
+package university.dao.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DaoMetricsTest {
+
+    private DaoMetrics metrics;
+
+    @BeforeEach
+    void init() {
+        metrics = new DaoMetrics();
+    }
+
+    @Test
+    void recordQuery_ShouldShareOneEntry_WhenInListsHaveDifferentLength() {
+        metrics.recordQuery("SELECT * FROM students WHERE student_id IN (?, ?);", 1_000, false);
+        metrics.recordQuery("SELECT * FROM students WHERE student_id in (?,?,?,?);", 1_000, false);
+        assertEquals(1, metrics.getQueryP99Micros().size());
+        assertEquals(2, metrics.getQueryMetrics("SELECT * FROM students WHERE student_id IN (?);").getCount());
+    }
+
+    @Test
+    void recordQuery_ShouldShareOneEntry_WhenStatementsDifferOnlyInLiterals() {
+        metrics.recordQuery("INSERT INTO groups (group_name) VALUES('AB-12');", 1_000, false);
+        metrics.recordQuery("INSERT INTO groups (group_name)\n VALUES('it''s');", 1_000, false);
+        metrics.recordRows("DELETE FROM groups WHERE group_id = 10;", 3);
+        metrics.recordRows("DELETE FROM groups WHERE group_id = 11;", 2);
+        assertEquals(2, metrics.getQueryMetrics("INSERT INTO groups (group_name) VALUES(?);").getCount());
+        assertEquals(5, metrics.getQueryMetrics("DELETE FROM groups WHERE group_id = ?;").getRowCount());
+    }
+
+    @Test
+    void normalize_ShouldKeepIdentifiers_WhenTheyContainDigits() {
+        assertEquals("SELECT v4_id FROM t1 WHERE x = ?", DaoMetrics.normalize("SELECT v4_id  FROM t1 WHERE x = 42"));
+    }
+
+    @Test
+    void recordQuery_ShouldFoldQueriesIntoOneEntry_WhenNumberOfQueriesExceedsCap() {
+        for (int i = 0; i < 1_000; i++) {
+            metrics.recordQuery("SELECT * FROM table_" + i + ";", 1_000, false);
+        }
+        assertTrue(metrics.getQueryP99Micros().size() <= 256);
+        assertEquals(1_000 - 255, metrics.getQueryMetrics(DaoMetrics.OTHER_QUERIES).getCount());
+        assertEquals(1_000, metrics.getQueryCount());
+    }
+}
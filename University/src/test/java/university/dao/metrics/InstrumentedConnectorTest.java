@@ -0,0 +1,66 @@
+package university.dao.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import university.dao.ConnectorH2;
+import university.dao.impl.GroupDaoImpl;
+import university.entity.Group;
+import university.utils.TestUtil;
+
+class InstrumentedConnectorTest {
+
+    private static final String FIND_GROUPS_QUERY = "SELECT group_id FROM groups;";
+
+    private DaoMetrics metrics;
+    private InstrumentedConnector connector;
+
+    @BeforeEach
+    void init() {
+        TestUtil.executeScript("\\inittestdb.sql");
+        metrics = new DaoMetrics();
+        connector = new InstrumentedConnector(new ConnectorH2("h2"), metrics, 0);
+    }
+
+    @Test
+    void getConnection_ShouldRecordLatencyAndRows_WhenQueryExecuted() throws SQLException {
+        try (Connection connection = connector.getConnection();
+                PreparedStatement statement = connection.prepareStatement(FIND_GROUPS_QUERY);
+                ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                resultSet.getInt(1);
+            }
+        }
+        OperationMetrics query = metrics.getQueryMetrics(FIND_GROUPS_QUERY);
+        assertEquals(1, query.getCount());
+        assertEquals(2, query.getRowCount());
+        assertEquals(0, query.getErrorCount());
+        assertEquals(1, metrics.getAcquireCount());
+    }
+
+    @Test
+    void getConnection_ShouldRecordAffectedRows_WhenDaoSavesBatch() {
+        new GroupDaoImpl(connector).saveAll(Arrays.asList(Group.builder().withName("CD-44").build(),
+                Group.builder().withName("EF-55").build()));
+        assertEquals(2, metrics.getQueryMetrics("INSERT INTO groups (group_name) VALUES(?);").getRowCount());
+    }
+
+    @Test
+    void getConnection_ShouldRecordError_WhenQueryFailed() throws SQLException {
+        String invalidQuery = "SELECT * FROM not_existing_table;";
+        try (Connection connection = connector.getConnection();
+                Statement statement = connection.createStatement()) {
+            assertThrows(SQLException.class, () -> statement.executeQuery(invalidQuery));
+        }
+        assertEquals(1, metrics.getQueryMetrics(invalidQuery).getErrorCount());
+        assertEquals(1, metrics.getQueryErrorCount());
+    }
+}
@@ -0,0 +1,29 @@
+package university.dao.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void getPercentileMicros_ShouldReturnBucketBoundOfSlowTail_WhenFewSlowSamplesRecorded() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 98; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(60));
+        assertEquals(100, histogram.getCount());
+        assertEquals(127, histogram.getPercentileMicros(0.5));
+        assertEquals(60_000, histogram.getPercentileMicros(0.99));
+        assertEquals(60_000, histogram.getMaxMicros());
+    }
+
+    @Test
+    void getPercentileMicros_ShouldThrowIllegalArgumentException_WhenPercentileOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getPercentileMicros(1.5));
+    }
+}
@@ -1,5 +1,6 @@
 package university.domain;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
@@ -8,7 +9,13 @@ import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyString;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import university.dao.CourseDao;
 import university.dao.GroupDao;
 import university.dao.StudentDao;
+import university.dao.TransactionManager;
 import university.entity.Course;
 import university.entity.Group;
 import university.entity.Student;
@@ -96,7 +104,7 @@ class ControllerTest {
         List<Student> students = createStudents();
         when(studentDaoMock.findAllByCourse(anyString())).thenReturn(students);        
         controller.run();
-        verify(courseDaoMock).findAll();
+        verify(courseDaoMock).findAllSummaries();
         verify(studentDaoMock).findAllByCourse("Test");
         verify(viewProviderMock).printMessage(students.get(0).toString());
     }
@@ -129,7 +137,7 @@ class ControllerTest {
         when(viewProviderMock.readNumber()).thenReturn(4);
         when(viewProviderMock.readString()).thenReturn("y", "n"); 
         controller.run();
-        verify(studentDaoMock).findAll();
+        verify(studentDaoMock).streamSummaries();
         verify(studentDaoMock).findById(4);
         verify(studentDaoMock).deleteById(4);        
     }
@@ -148,6 +156,25 @@ class ControllerTest {
         verify(studentDaoMock).insertStudentToCourses(student, courses);
     }
     
+    @Test
+    void run_ShouldAddStudentToCourseInOneTransaction_WhenInputFiveAndTransactionManagerProvided()
+            throws SQLException {
+        Connection connectionMock = mock(Connection.class);
+        Controller transactionalController = new Controller(studentDaoMock, courseDaoMock, groupDaoMock,
+                viewProviderMock, new TransactionManager(() -> connectionMock));
+        when(viewProviderMock.readNumber()).thenReturn(5);
+        when(viewProviderMock.readString()).thenReturn("Test");
+        Student student = createStudents().get(0);
+        when(studentDaoMock.findById(anyInt())).thenReturn(Optional.ofNullable(student));
+        Course course = createCourses().get(0);
+        when(courseDaoMock.findByName(anyString())).thenReturn(Optional.ofNullable(course));
+        transactionalController.run();
+        verify(studentDaoMock).insertStudentToCourses(student, Collections.singletonList(course.getCourseId()));
+        verify(connectionMock).setAutoCommit(false);
+        verify(connectionMock).commit();
+        verify(connectionMock).close();
+    }
+
     @Test
     void run_ShouldPrintExpectedMessageToConsole_WhenInputFiveAndStudentHasCourse() {        
         when(viewProviderMock.readNumber()).thenReturn(5);
@@ -174,6 +201,30 @@ class ControllerTest {
         verify(studentDaoMock).deleteFromCourse(anyInt(), anyInt());
     } 
     
+    @Test
+    void run_ShouldServeEveryScriptedCommandIteratively_WhenBatchInputIsLong() {
+        int commands = 20_000;
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < commands; i++) {
+            script.append("7\ny\n");
+        }
+        StringWriter output = new StringWriter();
+        Controller batchController = new Controller(studentDaoMock, courseDaoMock, groupDaoMock,
+                new ViewProvider(new StringReader(script.toString()), output));
+        batchController.run();
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertEquals(commands, Arrays.stream(lines).filter("Is not right number!"::equals).count());
+        assertEquals("Input is over, the session is finished", lines[lines.length - 1]);
+    }
+
+    @Test
+    void run_ShouldReportWrongNumber_WhenInputIsNotNumber() {
+        when(viewProviderMock.readNumber()).thenThrow(new NumberFormatException("For input string: \"abc\""));
+        controller.run();
+        verify(viewProviderMock).printMessage("Is not right number!");
+        verify(viewProviderMock).flush();
+    }
+
     private static List<Group> createGroups() {
         List<Group> groups = new ArrayList<>();
         Group group = Group.builder()
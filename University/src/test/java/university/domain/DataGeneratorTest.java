@@ -5,8 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import university.entity.Course;
@@ -44,6 +48,12 @@ class DataGeneratorTest {
         assertTrue(compareGroupNameAndSize(groups, 5));
     }
 
+    @Test
+    void generateGroups_ShouldReturnGroupsWithUniqueNames_WhenManyGroupsRequested() {
+        List<Group> groups = generator.generateGroups(5000);
+        assertEquals(5000, groups.stream().map(Group::getName).distinct().count());
+    }
+
     @Test
     void generateGroups_ShouldReturnEmptyList_WhenInputNegative() {
         List<Group> expected = new ArrayList<>();
@@ -132,6 +142,88 @@ class DataGeneratorTest {
         assertThrows(IllegalArgumentException.class, () -> generator.generateStudentCourses(students, null));
     }
 
+    @Test
+    void streamStudents_ShouldReturnSameStudentsForSameSeed_WhenParallel() {
+        DataGenerator parallelGenerator = new DataGenerator(new Random(), true);
+        List<Student> expected = generator.streamStudents(7, 25_000, 100, firstNameLines, lastNameLines)
+                .collect(Collectors.toList());
+        List<Student> actual = parallelGenerator.streamStudents(7, 25_000, 100, firstNameLines, lastNameLines)
+                .collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void streamStudents_ShouldReturnStudentsInOrder_WhenParallelStreamDrainedThroughIterator() {
+        DataGenerator parallelGenerator = new DataGenerator(new Random(), true);
+        List<Student> expected = generator.streamStudents(7, 95_000, 100, firstNameLines, lastNameLines)
+                .collect(Collectors.toList());
+        List<Student> actual = new ArrayList<>();
+        try (Stream<Student> students = parallelGenerator.streamStudents(7, 95_000, 100, firstNameLines,
+                lastNameLines)) {
+            students.iterator().forEachRemaining(actual::add);
+        }
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void streamStudents_ShouldNumberStudentsAndFillGroupsInTurn_WhenInputNumbers() {
+        List<Student> students = generator.streamStudents(7, 200, 3, firstNameLines, lastNameLines)
+                .collect(Collectors.toList());
+        assertEquals(200, students.size());
+        assertEquals(Integer.valueOf(1), students.get(0).getStudentId());
+        assertEquals(Integer.valueOf(200), students.get(199).getStudentId());
+        List<Integer> groupIds = students.stream().map(Student::getGroupId).collect(Collectors.toList());
+        for (int groupId = 1; groupId <= 3; groupId++) {
+            int groupSize = Collections.frequency(groupIds, groupId);
+            assertTrue(groupSize >= 10 && groupSize < 30);
+            assertEquals(groupIds.lastIndexOf(groupId) - groupIds.indexOf(groupId) + 1, groupSize);
+        }
+        assertEquals(200 - groupIds.lastIndexOf(3) - 1, Collections.frequency(groupIds, null));
+        assertTrue(compareStudentNamesAndNumber(students, 200));
+    }
+
+    @Test
+    void generateStudents_ShouldReturnSameStudentsAsStreamStudents_WhenSameSeed() {
+        List<Student> streamed = generator.streamStudents(7, 300, 10, firstNameLines, lastNameLines)
+                .collect(Collectors.toList());
+        List<Student> generated = generator.generateStudents(7, 300, 10, firstNameLines, lastNameLines);
+        assertEquals(streamed.size(), generated.size());
+        for (int i = 0; i < streamed.size(); i++) {
+            assertEquals(streamed.get(i).getGroupId(), generated.get(i).getGroupId());
+            assertEquals(streamed.get(i).getFirstName(), generated.get(i).getFirstName());
+            assertEquals(streamed.get(i).getLastName(), generated.get(i).getLastName());
+        }
+    }
+
+    @Test
+    void streamStudents_ShouldThrowIllegalArgumentException_WhenInputListFirstNameNull() {
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.streamStudents(7, 10, 1, null, lastNameLines));
+    }
+
+    @Test
+    void streamEnrolments_ShouldReturnSameEnrolmentsForSameSeed_WhenParallel() {
+        DataGenerator parallelGenerator = new DataGenerator(new Random(), true);
+        List<String> expected = generator.streamEnrolments(7, 25_000, 5).map(Arrays::toString)
+                .collect(Collectors.toList());
+        List<String> actual = parallelGenerator.streamEnrolments(7, 25_000, 5).map(Arrays::toString)
+                .collect(Collectors.toList());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void streamEnrolments_ShouldReturnDistinctCoursesInRangeForEveryStudent_WhenInputNumbers() {
+        List<int[]> enrolments = generator.streamEnrolments(7, 50, 2).collect(Collectors.toList());
+        assertEquals(50, enrolments.stream().mapToInt(enrolment -> enrolment[0]).distinct().count());
+        assertTrue(enrolments.stream().allMatch(enrolment -> enrolment[1] >= 1 && enrolment[1] <= 2));
+        assertEquals(enrolments.size(), enrolments.stream().map(Arrays::toString).distinct().count());
+    }
+
+    @Test
+    void streamEnrolments_ShouldReturnEmptyStream_WhenInputNumberCoursesZero() {
+        assertEquals(0, generator.streamEnrolments(7, 10, 0).count());
+    }
+
     @Test
     void generateCourses_ShouldReturnExpectedList_WhenInputSuitPattern() {
         List<Course> expected = createCourses();
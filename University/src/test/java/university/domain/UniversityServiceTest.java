@@ -0,0 +1,121 @@
+package university.domain;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import university.dao.Connector;
+import university.dao.CourseDao;
+import university.dao.GroupDao;
+import university.dao.StudentDao;
+import university.dao.TransactionManager;
+import university.dao.async.DaoExecutor;
+import university.entity.Course;
+import university.entity.Student;
+import university.exceptions.EntityNotFoundException;
+
+class UniversityServiceTest {
+
+    private StudentDao studentDaoMock;
+    private CourseDao courseDaoMock;
+    private UniversityService service;
+
+    @BeforeEach
+    void init() {
+        studentDaoMock = mock(StudentDao.class);
+        courseDaoMock = mock(CourseDao.class);
+        service = new UniversityService(studentDaoMock, courseDaoMock, mock(GroupDao.class), null, Runnable::run);
+    }
+
+    @Test
+    void addStudentToCourse_ShouldReturnFalse_WhenStudentAlreadyHasCourse() {
+        Student student = Student.builder().withId(1).withFirstName("Bob").withLastName("Morris").build();
+        when(studentDaoMock.findById(1)).thenReturn(Optional.of(student));
+        when(courseDaoMock.findByName("Law")).thenReturn(Optional.of(createCourse()));
+        when(studentDaoMock.findAllByCourse("Law")).thenReturn(Collections.singletonList(student));
+        assertFalse(service.addStudentToCourse(1, "Law"));
+        verify(studentDaoMock, never()).insertStudentToCourses(any(), anyList());
+    }
+
+    @Test
+    void addStudentToCourse_ShouldThrowEntityNotFoundException_WhenStudentNotExist() {
+        when(studentDaoMock.findById(1)).thenReturn(Optional.empty());
+        when(courseDaoMock.findByName("Law")).thenReturn(Optional.of(createCourse()));
+        assertThrows(EntityNotFoundException.class, () -> service.addStudentToCourse(1, "Law"));
+    }
+
+    @Test
+    void addStudentToCourse_ShouldLookUpEntitiesConcurrently_WhenServiceBuiltAsInLauncher() {
+        Connector connectorMock = mock(Connector.class);
+        when(connectorMock.getConnection()).thenReturn(mock(Connection.class));
+        TransactionManager transactionManager = new TransactionManager(connectorMock);
+        CountDownLatch bothLookupsStarted = new CountDownLatch(2);
+        Student student = Student.builder().withId(1).withFirstName("Bob").withLastName("Morris").build();
+        when(studentDaoMock.findById(1)).thenAnswer(invocation -> awaitOther(bothLookupsStarted, student));
+        when(courseDaoMock.findByName("Law")).thenAnswer(invocation -> awaitOther(bothLookupsStarted, createCourse()));
+        try (DaoExecutor daoExecutor = new DaoExecutor(2)) {
+            UniversityService launcherService = new UniversityService(studentDaoMock, courseDaoMock,
+                    mock(GroupDao.class), transactionManager, daoExecutor);
+            assertTrue(launcherService.addStudentToCourse(1, "Law"));
+        }
+        verify(studentDaoMock).insertStudentToCourses(student, Collections.singletonList(1));
+        verify(connectorMock, times(1)).getConnection();
+    }
+
+    @Test
+    void addStudentToCourse_ShouldLookUpEntitiesOnCallerThread_WhenTransactionActive() {
+        Connector connectorMock = mock(Connector.class);
+        when(connectorMock.getConnection()).thenReturn(mock(Connection.class));
+        TransactionManager transactionManager = new TransactionManager(connectorMock);
+        Executor failingExecutor = command -> {
+            throw new IllegalStateException("Lookups must not leave the transaction");
+        };
+        UniversityService transactionalService = new UniversityService(studentDaoMock, courseDaoMock,
+                mock(GroupDao.class), transactionManager, failingExecutor);
+        Student student = Student.builder().withId(1).withFirstName("Bob").withLastName("Morris").build();
+        when(studentDaoMock.findById(1)).thenReturn(Optional.of(student));
+        when(courseDaoMock.findByName("Law")).thenReturn(Optional.of(createCourse()));
+        assertTrue(transactionManager.inTransaction(() -> transactionalService.addStudentToCourse(1, "Law")));
+        verify(studentDaoMock).insertStudentToCourses(student, Collections.singletonList(1));
+        verify(connectorMock, times(1)).getConnection();
+    }
+
+    @Test
+    void removeStudentFromCourse_ShouldThrowEntityNotFoundException_WhenCourseNotExist() {
+        when(courseDaoMock.findByName("Law")).thenReturn(Optional.empty());
+        assertThrows(EntityNotFoundException.class, () -> service.removeStudentFromCourse(1, "Law"));
+        verify(studentDaoMock, never()).deleteFromCourse(1, 1);
+    }
+
+    private static <T> Optional<T> awaitOther(CountDownLatch bothLookupsStarted, T entity)
+            throws InterruptedException {
+        bothLookupsStarted.countDown();
+        if (!bothLookupsStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Lookups didn't run concurrently");
+        }
+        return Optional.of(entity);
+    }
+
+    private Course createCourse() {
+        return Course.builder()
+                .withId(1)
+                .withName("Law")
+                .withDescription("test-courses")
+                .build();
+    }
+}
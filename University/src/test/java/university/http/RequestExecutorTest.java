@@ -0,0 +1,52 @@
+package university.http;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class RequestExecutorTest {
+
+    @Test
+    void execute_ShouldRunExchangeAsNotRejected_WhenWorkersAvailable() throws Exception {
+        try (RequestExecutor executor = new RequestExecutor(1, "test-request")) {
+            CompletableFuture<Boolean> rejected = new CompletableFuture<>();
+            executor.execute(() -> rejected.complete(RequestExecutor.isRejected()));
+            assertFalse(rejected.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void execute_ShouldRunExchangeAsRejectedOffCallerThread_WhenWorkersSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try (RequestExecutor executor = new RequestExecutor(1, "test-request")) {
+            for (int i = 0; i < 5; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            CompletableFuture<Thread> rejectedOn = new CompletableFuture<>();
+            executor.execute(() -> {
+                if (RequestExecutor.isRejected()) {
+                    rejectedOn.complete(Thread.currentThread());
+                }
+            });
+            assertNotEquals(Thread.currentThread(), rejectedOn.get(5, TimeUnit.SECONDS));
+            assertFalse(RequestExecutor.isRejected());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void constructor_ShouldThrowIllegalArgumentException_WhenThreadsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new RequestExecutor(0, "test-request"));
+    }
+}
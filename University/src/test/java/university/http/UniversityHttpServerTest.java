@@ -0,0 +1,169 @@
+package university.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import university.domain.UniversityService;
+import university.entity.EntitySummary;
+import university.entity.Group;
+import university.entity.Student;
+import university.exceptions.DaoException;
+import university.exceptions.EntityNotFoundException;
+
+class UniversityHttpServerTest {
+
+    private UniversityService serviceMock;
+    private UniversityHttpServer server;
+
+    @BeforeEach
+    void init() {
+        serviceMock = mock(UniversityService.class);
+        server = new UniversityHttpServer(serviceMock, 0, 2);
+        server.start();
+    }
+
+    @AfterEach
+    void close() {
+        server.close();
+    }
+
+    @Test
+    void handleGroups_ShouldReturnGroupsAsJson_WhenMaxSizeGiven() throws IOException {
+        when(serviceMock.findGroupsBySize(5)).thenReturn(Arrays.asList(
+                Group.builder().withId(1).withName("AB-22").build(),
+                Group.builder().withId(2).withName("FR-\"33").build()));
+        HttpURLConnection connection = open("GET", "/groups?maxSize=5");
+        assertEquals(200, connection.getResponseCode());
+        assertEquals("[{\"id\":1,\"name\":\"AB-22\"},{\"id\":2,\"name\":\"FR-\\\"33\"}]", readBody(connection));
+    }
+
+    @Test
+    void handleStudents_ShouldStreamStudentsInChunksAndCloseStream_WhenGetRequested() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(serviceMock.streamStudents()).thenReturn(Stream.of(
+                EntitySummary.builder().withId(1).withName("Bob Morris").build(),
+                EntitySummary.builder().withId(2).withName("Ann Wood").build())
+                .onClose(() -> closed.set(true)));
+        HttpURLConnection connection = open("GET", "/students");
+        assertEquals(200, connection.getResponseCode());
+        assertEquals("chunked", connection.getHeaderField("Transfer-Encoding"));
+        assertEquals("[{\"id\":1,\"name\":\"Bob Morris\"},{\"id\":2,\"name\":\"Ann Wood\"}]",
+                readBody(connection));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void handleStudents_ShouldReturnInternalError_WhenFirstStudentCanNotBeRead() throws IOException {
+        when(serviceMock.streamStudents()).thenReturn(Stream.<EntitySummary>generate(() -> {
+            throw new DaoException("Can't read next entity", null);
+        }));
+        assertEquals(500, open("GET", "/students").getResponseCode());
+    }
+
+    @Test
+    void handleStudents_ShouldBreakResponseBody_WhenStudentsFailMidStream() throws IOException {
+        AtomicInteger read = new AtomicInteger();
+        when(serviceMock.streamStudents()).thenReturn(Stream.generate(() -> {
+            if (read.incrementAndGet() > 1) {
+                throw new DaoException("Can't read next entity", null);
+            }
+            return EntitySummary.builder().withId(1).withName("Bob Morris").build();
+        }));
+        HttpURLConnection connection = open("GET", "/students");
+        assertEquals(200, connection.getResponseCode());
+        assertThrows(IOException.class, () -> readBody(connection));
+    }
+
+    @Test
+    void handleStudents_ShouldAddStudent_WhenFormPosted() throws IOException {
+        HttpURLConnection connection = open("POST", "/students");
+        connection.setDoOutput(true);
+        try (OutputStream output = connection.getOutputStream()) {
+            output.write("firstName=Anna+Maria&lastName=Smith".getBytes(StandardCharsets.UTF_8));
+        }
+        assertEquals(201, connection.getResponseCode());
+        verify(serviceMock).addStudent(Student.builder().withFirstName("Anna Maria").withLastName("Smith").build());
+    }
+
+    @Test
+    void handleStudents_ShouldReturnNotFound_WhenCourseNotExist() throws IOException {
+        when(serviceMock.addStudentToCourse(1, "Art History"))
+                .thenThrow(new EntityNotFoundException("Course Art History doesn't exist"));
+        HttpURLConnection connection = open("POST", "/students/1/courses/Art%20History");
+        connection.setDoOutput(true);
+        connection.getOutputStream().close();
+        assertEquals(404, connection.getResponseCode());
+    }
+
+    @Test
+    void handleGroups_ShouldReturnBadRequest_WhenMaxSizeMissing() throws IOException {
+        assertEquals(400, open("GET", "/groups").getResponseCode());
+    }
+
+    @Test
+    void handle_ShouldReturnServiceUnavailable_WhenRequestThreadsSaturated() throws Exception {
+        server.close();
+        server = new UniversityHttpServer(serviceMock, 0, 1);
+        server.start();
+        CountDownLatch release = new CountDownLatch(1);
+        when(serviceMock.findGroupsBySize(5)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Collections.emptyList();
+        });
+        ExecutorService clients = Executors.newFixedThreadPool(10);
+        try {
+            CompletionService<Integer> statuses = new ExecutorCompletionService<>(clients);
+            for (int i = 0; i < 10; i++) {
+                statuses.submit(() -> open("GET", "/groups?maxSize=5").getResponseCode());
+            }
+            assertEquals(503, statuses.poll(5, TimeUnit.SECONDS).get());
+        } finally {
+            release.countDown();
+            clients.shutdown();
+        }
+    }
+
+    private HttpURLConnection open(String method, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.getPort() + path)
+                .openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+
+    private String readBody(HttpURLConnection connection) throws IOException {
+        try (InputStream input = connection.getInputStream()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+            return new String(body.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -37,6 +37,11 @@ class FileReaderTest {
         assertThrows(NoFileException.class, () -> reader.read(NON_EXISTING_FILE));
     }
 
+    @Test
+    void openReader_ShouldThrowNoFileException_WhenInputNonExistingFile() {
+        assertThrows(NoFileException.class, () -> reader.openReader(NON_EXISTING_FILE));
+    }
+
     @Test
     void read_ShouldThrowIllegalArgumentException_WhenNull() {
         assertThrows(IllegalArgumentException.class, () -> reader.read(null));
@@ -1,12 +1,17 @@
 package university.io;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.NoSuchElementException;
 
 class ViewProviderTest {
 
@@ -44,4 +49,23 @@ class ViewProviderTest {
         String actual = output.toString();
         assertEquals(expected, actual);
     }
+
+    @Test
+    void readNumber_ShouldKeepBufferedLines_WhenBatchInputReadSequentially() {
+        ViewProvider batchProvider = new ViewProvider(new StringReader("5\nTest\n 7 \n"), new StringWriter());
+        assertEquals(5, batchProvider.readNumber());
+        assertEquals("Test", batchProvider.readString());
+        assertEquals(7, batchProvider.readNumber());
+        assertThrows(NoSuchElementException.class, batchProvider::readString);
+    }
+
+    @Test
+    void printMessage_ShouldBufferOutputUntilFlush_WhenBatchMode() {
+        StringWriter output = new StringWriter();
+        ViewProvider batchProvider = new ViewProvider(new StringReader(""), output);
+        batchProvider.printMessage("Test");
+        assertTrue(output.toString().isEmpty());
+        batchProvider.flush();
+        assertEquals("Test" + System.lineSeparator(), output.toString());
+    }
 }
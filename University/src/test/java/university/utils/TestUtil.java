@@ -1,9 +1,15 @@
 package university.utils;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.util.List;
 import university.dao.Connector;
 import university.dao.ConnectorH2;
@@ -45,6 +51,18 @@ public class TestUtil {
         }
     }
 
+    public static Connector createNoArrayConnector() {
+        return () -> {
+            Connection connection = spy(connector.getConnection());
+            try {
+                doThrow(new SQLFeatureNotSupportedException()).when(connection).createArrayOf(anyString(), any());
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return connection;
+        };
+    }
+
     private static String createSqlQuery(List<String> scriptFileContent) {
         return scriptFileContent.stream()
                 .collect(StringBuilder::new, StringBuilder::append, StringBuilder::append)
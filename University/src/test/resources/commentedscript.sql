@@ -0,0 +1,9 @@
+-- table used by the script executor test, notes may contain ";"
+DROP TABLE IF EXISTS commented CASCADE;
+CREATE TABLE commented(
+commented_id INT NOT NULL PRIMARY KEY, -- identifier
+note VARCHAR(20) NOT NULL
+);
+/* seed rows */
+INSERT INTO commented VALUES(1, 'first; row');
+INSERT INTO commented VALUES(2, '-- second');
@@ -0,0 +1,4 @@
+DROP TABLE IF EXISTS failing CASCADE;
+CREATE TABLE failing(failing_id INT NOT NULL PRIMARY KEY);
+INSERT INTO failing VALUES(1);
+INSERT INTO failing VALUES(1);
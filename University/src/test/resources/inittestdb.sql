@@ -2,6 +2,7 @@ DROP TABLE IF EXISTS groups CASCADE;
 CREATE TABLE groups(
 group_id IDENTITY NOT NULL PRIMARY KEY,
 group_name VARCHAR(5) NOT NULL);
+CREATE UNIQUE INDEX groups_group_name_key ON groups (group_name);
 DROP TABLE IF EXISTS students CASCADE;
 CREATE TABLE students(
 student_id IDENTITY NOT NULL PRIMARY KEY,
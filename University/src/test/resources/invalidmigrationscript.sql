@@ -0,0 +1 @@
+INSERT INTO not_existing_table VALUES(1);
@@ -0,0 +1,2 @@
+CREATE TABLE migrated(
+migrated_id INT NOT NULL PRIMARY KEY);
@@ -0,0 +1,6 @@
+-- scripts may read data between updates, e.g. to move a sequence
+DROP TABLE IF EXISTS queried CASCADE;
+CREATE TABLE queried(queried_id INT NOT NULL PRIMARY KEY);
+INSERT INTO queried VALUES(1);
+SELECT COUNT(*) FROM queried;
+INSERT INTO queried VALUES(2);